@@ -0,0 +1,286 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Batch proximity queries answered from one KdTree: each point asks the tree for its own neighbours, so the
+// whole batch costs O(n log n) and the per-point queries run in parallel over ranges of the input.
+public class AllNearestNeighbors {
+    private static final int DEFAULT_CUTOFF = 1 << 12;
+
+    private final MetricsCollector metrics;
+    private final ForkJoinPool pool;
+    private final int cutoff;
+
+    public AllNearestNeighbors(MetricsCollector metrics) {
+        this(metrics, ForkJoinPool.commonPool());
+    }
+
+    public AllNearestNeighbors(MetricsCollector metrics, ForkJoinPool pool) {
+        this(metrics, pool, DEFAULT_CUTOFF);
+    }
+
+    public AllNearestNeighbors(MetricsCollector metrics, ForkJoinPool pool, int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        this.metrics = metrics;
+        this.pool = pool;
+        this.cutoff = cutoff;
+    }
+
+    // Writes the index of each point's nearest other point, and the distance to it, into the output arrays
+    public void findAll(Point[] points, int[] neighbours, double[] distances) {
+        if (points == null || points.length < 2) {
+            throw new IllegalArgumentException("Need at least 2 points");
+        }
+        if (neighbours == null || distances == null || neighbours.length != points.length
+            || distances.length != points.length) {
+            throw new IllegalArgumentException("Output arrays must hold one entry per point");
+        }
+
+        KdTree tree = new KdTree(points, metrics, pool);
+        NeighbourTask root = new NeighbourTask(points, tree, neighbours, distances, 0, points.length,
+            metrics.fork());
+        pool.invoke(root);
+        metrics.merge(root.taskMetrics);
+    }
+
+    // The k closest pairs overall, closest first, each reported once with first < second
+    public ClosestPair.IndexPair[] kClosestPairs(Point[] points, int k) {
+        if (points == null || points.length < 2) {
+            throw new IllegalArgumentException("Need at least 2 points");
+        }
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+
+        long pairCount = (long) points.length * (points.length - 1) / 2;
+        int wanted = (int) Math.min(k, pairCount);
+
+        // A pair among the k closest always has each end within the other's k nearest neighbours, so only
+        // those candidates are offered. Both ends may offer the same pair, hence room for 2k entries
+        KdTree tree = new KdTree(points, metrics, pool);
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 2L * wanted);
+        PairTask root = new PairTask(points, tree, Math.min(wanted, points.length - 1), capacity, 0,
+            points.length, metrics.fork());
+        pool.invoke(root);
+        metrics.merge(root.taskMetrics);
+
+        ClosestPair.IndexPair[] candidates = root.heap.toArray();
+        metrics.incrementAllocations(); // For the candidate array
+        Arrays.sort(candidates, Comparator.<ClosestPair.IndexPair>comparingDouble(pair -> pair.distance)
+            .thenComparingInt(pair -> pair.first)
+            .thenComparingInt(pair -> pair.second));
+
+        ClosestPair.IndexPair[] result = new ClosestPair.IndexPair[wanted];
+        int size = 0;
+        for (int i = 0; i < candidates.length && size < wanted; i++) {
+            if (i > 0 && candidates[i].first == candidates[i - 1].first
+                && candidates[i].second == candidates[i - 1].second) {
+                continue;
+            }
+            result[size++] = candidates[i];
+        }
+        return size == wanted ? result : Arrays.copyOf(result, size);
+    }
+
+    private final class NeighbourTask extends RecursiveAction {
+        private final Point[] points;
+        private final KdTree tree;
+        private final int[] neighbours;
+        private final double[] distances;
+        private final int low;
+        private final int high;
+        private final MetricsCollector taskMetrics;
+
+        NeighbourTask(Point[] points, KdTree tree, int[] neighbours, double[] distances, int low, int high,
+                      MetricsCollector taskMetrics) {
+            this.points = points;
+            this.tree = tree;
+            this.neighbours = neighbours;
+            this.distances = distances;
+            this.low = low;
+            this.high = high;
+            this.taskMetrics = taskMetrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low <= cutoff) {
+                for (int i = low; i < high; i++) {
+                    int self = i;
+                    int neighbour = tree.nearest(points[i].x, points[i].y, id -> id == self, taskMetrics);
+                    neighbours[i] = neighbour;
+                    distances[i] = points[i].distanceTo(points[neighbour]);
+                }
+                return;
+            }
+
+            taskMetrics.enterRecursion();
+
+            try {
+                int mid = (low + high) >>> 1;
+                NeighbourTask left = new NeighbourTask(points, tree, neighbours, distances, low, mid,
+                    taskMetrics.fork());
+                NeighbourTask right = new NeighbourTask(points, tree, neighbours, distances, mid, high,
+                    taskMetrics.fork());
+                invokeAll(left, right);
+                taskMetrics.merge(left.taskMetrics);
+                taskMetrics.merge(right.taskMetrics);
+            } finally {
+                taskMetrics.exitRecursion();
+            }
+        }
+    }
+
+    private final class PairTask extends RecursiveAction {
+        private final Point[] points;
+        private final KdTree tree;
+        private final int neighboursPerPoint;
+        private final int capacity;
+        private final int low;
+        private final int high;
+        private final MetricsCollector taskMetrics;
+        private PairHeap heap;
+
+        PairTask(Point[] points, KdTree tree, int neighboursPerPoint, int capacity, int low, int high,
+                 MetricsCollector taskMetrics) {
+            this.points = points;
+            this.tree = tree;
+            this.neighboursPerPoint = neighboursPerPoint;
+            this.capacity = capacity;
+            this.low = low;
+            this.high = high;
+            this.taskMetrics = taskMetrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low <= cutoff) {
+                heap = new PairHeap(capacity);
+                for (int i = low; i < high; i++) {
+                    int self = i;
+                    int[] nearest = tree.nearest(points[i].x, points[i].y, neighboursPerPoint, id -> id == self,
+                        taskMetrics);
+                    for (int neighbour : nearest) {
+                        double distance = points[i].distanceTo(points[neighbour]);
+                        // Neighbours arrive closest first, so the rest cannot make it into a full heap either
+                        if (!heap.offer(Math.min(i, neighbour), Math.max(i, neighbour), distance)) {
+                            break;
+                        }
+                    }
+                }
+                return;
+            }
+
+            taskMetrics.enterRecursion();
+
+            try {
+                int mid = (low + high) >>> 1;
+                PairTask left = new PairTask(points, tree, neighboursPerPoint, capacity, low, mid,
+                    taskMetrics.fork());
+                PairTask right = new PairTask(points, tree, neighboursPerPoint, capacity, mid, high,
+                    taskMetrics.fork());
+                invokeAll(left, right);
+                taskMetrics.merge(left.taskMetrics);
+                taskMetrics.merge(right.taskMetrics);
+
+                heap = left.heap;
+                heap.offerAll(right.heap);
+            } finally {
+                taskMetrics.exitRecursion();
+            }
+        }
+    }
+
+    // Bounded max-heap on distance: the root is the worst pair kept so far
+    private static final class PairHeap {
+        private static final int INITIAL_SIZE = 16;
+
+        private final int capacity;
+        private int[] firsts;
+        private int[] seconds;
+        private double[] distances;
+        private int size;
+
+        // Arrays start small and double up to capacity, so a large k costs nothing for tasks that see few pairs
+        PairHeap(int capacity) {
+            this.capacity = capacity;
+            int initial = Math.min(capacity, INITIAL_SIZE);
+            firsts = new int[initial];
+            seconds = new int[initial];
+            distances = new double[initial];
+        }
+
+        // Returns false when the pair was too far to be kept
+        boolean offer(int first, int second, double distance) {
+            if (size < capacity) {
+                if (size == distances.length) {
+                    int grown = (int) Math.min(capacity, 2L * size);
+                    firsts = Arrays.copyOf(firsts, grown);
+                    seconds = Arrays.copyOf(seconds, grown);
+                    distances = Arrays.copyOf(distances, grown);
+                }
+                int i = size++;
+                while (i > 0 && distances[(i - 1) / 2] < distance) {
+                    move((i - 1) / 2, i);
+                    i = (i - 1) / 2;
+                }
+                set(i, first, second, distance);
+                return true;
+            }
+            if (distance >= distances[0]) {
+                return false;
+            }
+
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && distances[child + 1] > distances[child]) {
+                    child++;
+                }
+                if (distances[child] <= distance) {
+                    break;
+                }
+                move(child, i);
+                i = child;
+            }
+            set(i, first, second, distance);
+            return true;
+        }
+
+        void offerAll(PairHeap other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.firsts[i], other.seconds[i], other.distances[i]);
+            }
+        }
+
+        ClosestPair.IndexPair[] toArray() {
+            ClosestPair.IndexPair[] pairs = new ClosestPair.IndexPair[size];
+            for (int i = 0; i < size; i++) {
+                pairs[i] = new ClosestPair.IndexPair(firsts[i], seconds[i], distances[i]);
+            }
+            return pairs;
+        }
+
+        private void move(int from, int to) {
+            firsts[to] = firsts[from];
+            seconds[to] = seconds[from];
+            distances[to] = distances[from];
+        }
+
+        private void set(int i, int first, int second, double distance) {
+            firsts[i] = first;
+            seconds[i] = second;
+            distances[i] = distance;
+        }
+    }
+}
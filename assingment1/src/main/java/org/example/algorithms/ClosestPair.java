@@ -3,15 +3,19 @@ package org.example.algorithms;
 import org.example.metrics.MetricsCollector;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 
 public class ClosestPair {
     private final MetricsCollector metrics;
+    private final DistanceKernel kernel;
 
     public ClosestPair(MetricsCollector metrics) {
+        this(metrics, DistanceKernel.preferred());
+    }
+
+    public ClosestPair(MetricsCollector metrics, DistanceKernel kernel) {
         this.metrics = metrics;
+        this.kernel = kernel;
     }
 
     public static class PointPair {
@@ -31,6 +35,23 @@ public class ClosestPair {
         }
     }
 
+    public static class IndexPair {
+        public final int first;
+        public final int second;
+        public final double distance;
+
+        public IndexPair(int first, int second, double distance) {
+            this.first = first;
+            this.second = second;
+            this.distance = distance;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Pair{#%d, #%d, distance=%.3f}", first, second, distance);
+        }
+    }
+
     public PointPair findClosestPair(Point[] points) {
         if (points == null || points.length < 2) {
             throw new IllegalArgumentException("Need at least 2 points");
@@ -39,8 +60,11 @@ public class ClosestPair {
         Point[] sortedByX = points.clone();
         Point[] sortedByY = points.clone();
 
-        Arrays.sort(sortedByX, Comparator.comparingDouble(p -> p.x));
-        Arrays.sort(sortedByY, Comparator.comparingDouble(p -> p.y));
+        // Presorting is not closest-pair work; keeping it off the collector leaves the counts as they were
+        // with Arrays.sort
+        MergeSort sorter = new MergeSort(MetricsCollector.noOp());
+        sorter.sortByDoubleKey(sortedByX, p -> p.x);
+        sorter.sortByDoubleKey(sortedByY, p -> p.y);
 
         metrics.incrementAllocations(); // For sorted arrays
 
@@ -119,6 +143,7 @@ public class ClosestPair {
 
         PointPair minPair = currentMin;
 
+        // At most 7 followers with an early exit: too short for the distance kernel to use vector lanes
         for (int i = 0; i < strip.size(); i++) {
             Point p1 = strip.get(i);
 
@@ -141,25 +166,196 @@ public class ClosestPair {
         return minPair;
     }
 
-    public PointPair bruteForceClosestPair(Point[] points) {
-        if (points == null || points.length < 2) {
+    // Struct-of-arrays engine: one index array presorted by x and one scratch buffer serve every level.
+    // Each range comes back sorted by y (merged like merge sort), and distances stay squared until the end
+    public IndexPair findClosestPair(double[] xs, double[] ys) {
+        int[] order = presortByX(xs, ys);
+        int[] scratch = new int[order.length];
+        metrics.incrementAllocations(); // For the index and scratch arrays
+
+        SoaSearch search = newSearch(xs, ys, order, scratch);
+        search.closestPair(0, order.length - 1);
+
+        return search.result();
+    }
+
+    int[] presortByX(double[] xs, double[] ys) {
+        if (xs == null || ys == null || xs.length < 2) {
             throw new IllegalArgumentException("Need at least 2 points");
         }
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must have the same length");
+        }
 
-        PointPair minPair = null;
-        double minDistance = Double.MAX_VALUE;
+        int[] order = new int[xs.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        new MergeSort(metrics).sortIndicesByDoubleKey(order, xs);
+        return order;
+    }
+
+    SoaSearch newSearch(double[] xs, double[] ys, int[] order, int[] scratch) {
+        return new SoaSearch(xs, ys, order, scratch);
+    }
+
+    // Package-private so ParallelClosestPair can solve sub-ranges and combine halves with the same code
+    final class SoaSearch {
+        private final double[] xs;
+        private final double[] ys;
+        private final int[] order;
+        private final int[] scratch;
+        private double bestSquared = Double.POSITIVE_INFINITY;
+        private int bestFirst = -1;
+        private int bestSecond = -1;
+
+        SoaSearch(double[] xs, double[] ys, int[] order, int[] scratch) {
+            this.xs = xs;
+            this.ys = ys;
+            this.order = order;
+            this.scratch = scratch;
+        }
+
+        void closestPair(int low, int high) {
+            metrics.enterRecursion();
+
+            try {
+                if (high - low < 3) {
+                    for (int i = low; i <= high; i++) {
+                        for (int j = i + 1; j <= high; j++) {
+                            consider(order[i], order[j]);
+                        }
+                    }
+                    insertionSortByY(low, high);
+                    return;
+                }
+
+                int mid = (low + high) >>> 1;
+                double midX = xs[order[mid]];
+
+                closestPair(low, mid);
+                closestPair(mid + 1, high);
+                combine(low, mid, high, midX);
+            } finally {
+                metrics.exitRecursion();
+            }
+        }
 
-        for (int i = 0; i < points.length; i++) {
-            for (int j = i + 1; j < points.length; j++) {
+        // Merges two y-sorted halves and checks pairs that straddle x = midX. The best distance so far is
+        // at most either half's answer, so the strip is never wider than the textbook one
+        void combine(int low, int mid, int high, double midX) {
+            mergeByY(low, mid, high);
+
+            int stripEnd = low;
+            for (int i = low; i <= high; i++) {
+                double dx = xs[order[i]] - midX;
                 metrics.incrementComparisons();
-                double distance = points[i].distanceTo(points[j]);
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    minPair = new PointPair(points[i], points[j]);
+                if (dx * dx < bestSquared) {
+                    scratch[stripEnd++] = order[i];
+                }
+            }
+
+            for (int i = low; i < stripEnd; i++) {
+                int p = scratch[i];
+                for (int j = i + 1; j < stripEnd; j++) {
+                    int q = scratch[j];
+                    double dy = ys[q] - ys[p];
+                    metrics.incrementComparisons();
+                    if (dy * dy >= bestSquared) {
+                        break;
+                    }
+                    consider(p, q);
                 }
             }
         }
 
-        return minPair;
+        void offer(SoaSearch other) {
+            if (other.bestSquared < bestSquared) {
+                bestSquared = other.bestSquared;
+                bestFirst = other.bestFirst;
+                bestSecond = other.bestSecond;
+            }
+        }
+
+        IndexPair result() {
+            return new IndexPair(bestFirst, bestSecond, Math.sqrt(bestSquared));
+        }
+
+        private void consider(int p, int q) {
+            double dx = xs[p] - xs[q];
+            double dy = ys[p] - ys[q];
+            double distanceSquared = dx * dx + dy * dy;
+            metrics.incrementComparisons();
+            if (distanceSquared < bestSquared) {
+                bestSquared = distanceSquared;
+                bestFirst = p;
+                bestSecond = q;
+            }
+        }
+
+        private void mergeByY(int low, int mid, int high) {
+            metrics.incrementComparisons();
+            if (ys[order[mid]] <= ys[order[mid + 1]]) {
+                return;
+            }
+
+            System.arraycopy(order, low, scratch, low, high - low + 1);
+            int i = low;
+            int j = mid + 1;
+            int k = low;
+            while (i <= mid && j <= high) {
+                metrics.incrementComparisons();
+                order[k++] = ys[scratch[i]] <= ys[scratch[j]] ? scratch[i++] : scratch[j++];
+            }
+            System.arraycopy(scratch, i, order, k, mid - i + 1);
+            System.arraycopy(scratch, j, order, k + mid - i + 1, high - j + 1);
+        }
+
+        private void insertionSortByY(int low, int high) {
+            for (int i = low + 1; i <= high; i++) {
+                int index = order[i];
+                int j = i - 1;
+                while (j >= low && ys[order[j]] > ys[index]) {
+                    metrics.incrementComparisons();
+                    order[j + 1] = order[j];
+                    j--;
+                }
+                order[j + 1] = index;
+            }
+        }
+    }
+
+    public PointPair bruteForceClosestPair(Point[] points) {
+        if (points == null || points.length < 2) {
+            throw new IllegalArgumentException("Need at least 2 points");
+        }
+
+        int n = points.length;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+        }
+        metrics.incrementAllocations(); // For packed coordinates
+
+        // One kernel call finds each point's nearest later point; only strictly smaller distances replace the
+        // best, so the earliest closest pair wins as in a pairwise loop
+        int bestFirst = 0;
+        int bestSecond = 1;
+        double bestSquared = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < n - 1; i++) {
+            int j = kernel.nearest(xs, ys, xs[i], ys[i], i + 1, n);
+            metrics.incrementComparisons(n - 1 - i);
+
+            double squared = points[i].distanceSquaredTo(points[j]);
+            if (squared < bestSquared) {
+                bestSquared = squared;
+                bestFirst = i;
+                bestSecond = j;
+            }
+        }
+
+        return new PointPair(points[bestFirst], points[bestSecond]);
     }
 }
\ No newline at end of file
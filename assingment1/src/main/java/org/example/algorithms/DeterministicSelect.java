@@ -3,7 +3,11 @@ package org.example.algorithms;
 import org.example.metrics.MetricsCollector;
 import org.example.utils.ArrayUtils;
 
+import java.util.Arrays;
+
 public class DeterministicSelect {
+    private static final int FLOYD_RIVEST_SAMPLE_THRESHOLD = 600;
+
     private final MetricsCollector metrics;
 
     public DeterministicSelect(MetricsCollector metrics) {
@@ -45,6 +49,308 @@ public class DeterministicSelect {
         }
     }
 
+    // Finds several order statistics in one pass; results are returned in the order the ranks were given
+    public int[] select(int[] array, int... ranks) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (ranks == null || ranks.length == 0) {
+            throw new IllegalArgumentException("At least one rank is required");
+        }
+
+        int[] sortedRanks = ranks.clone();
+        Arrays.sort(sortedRanks);
+        if (sortedRanks[0] < 0 || sortedRanks[sortedRanks.length - 1] >= array.length) {
+            throw new IllegalArgumentException("ranks must be between 0 and array.length - 1");
+        }
+
+        multiSelect(array, 0, array.length - 1, sortedRanks, 0, sortedRanks.length - 1);
+
+        int[] values = new int[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            values[i] = array[ranks[i]];
+        }
+        return values;
+    }
+
+    // Nearest-rank percentiles, e.g. percentiles(latencies, 50, 90, 99, 99.9)
+    public int[] percentiles(int[] array, double... percentiles) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (percentiles == null || percentiles.length == 0) {
+            throw new IllegalArgumentException("At least one percentile is required");
+        }
+
+        int[] ranks = new int[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            double p = percentiles[i];
+            if (!(p >= 0 && p <= 100)) {
+                throw new IllegalArgumentException("Percentiles must be between 0 and 100");
+            }
+            // The small slack keeps binary rounding (99.9 / 100 * 1000 = 999.0000000000001) from bumping the rank
+            ranks[i] = Math.max(0, (int) Math.ceil(p / 100.0 * array.length - 1e-9) - 1);
+        }
+
+        return select(array, ranks);
+    }
+
+    private void multiSelect(int[] array, int low, int high, int[] ranks, int rankLow, int rankHigh) {
+        if (rankLow > rankHigh) {
+            return;
+        }
+
+        metrics.enterRecursion();
+
+        try {
+            while (rankLow <= rankHigh) {
+                if (high - low < 5) {
+                    ArrayUtils.insertionSort(array, low, high, metrics);
+                    return;
+                }
+
+                int pivotIndex = partitionAt(array, low, high, medianOfMediansIndex(array, low, high));
+                int equalStart = settleDuplicates(array, low, high, pivotIndex);
+
+                // Ranks below the equal block stay left, ranks above the pivot go right, and every rank inside
+                // [equalStart, pivotIndex] already holds the pivot value
+                int split = rankLow;
+                while (split <= rankHigh && ranks[split] < equalStart) {
+                    split++;
+                }
+                int rightStart = split;
+                while (rightStart <= rankHigh && ranks[rightStart] <= pivotIndex) {
+                    rightStart++;
+                }
+
+                // Recurse into the smaller side and loop on the larger one so the stack stays logarithmic
+                if (equalStart - low < high - pivotIndex) {
+                    multiSelect(array, low, equalStart - 1, ranks, rankLow, split - 1);
+                    low = pivotIndex + 1;
+                    rankLow = rightStart;
+                } else {
+                    multiSelect(array, pivotIndex + 1, high, ranks, rightStart, rankHigh);
+                    high = equalStart - 1;
+                    rankHigh = split - 1;
+                }
+            }
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    // Median-of-medians selection that allocates nothing: group medians are gathered at the front of the
+    // range and the pivot is carried by index instead of being searched for by value
+    public int selectInPlace(int[] array, int k) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("k must be between 0 and array.length - 1");
+        }
+
+        selectInPlace(array, 0, array.length - 1, k);
+        return array[k];
+    }
+
+    // Rearranges [low, high] so that array[k] holds the value of rank k within the range
+    private void selectInPlace(int[] array, int low, int high, int k) {
+        metrics.enterRecursion();
+
+        try {
+            while (high - low >= 5) {
+                int pivotIndex = partitionAt(array, low, high, medianOfMediansIndex(array, low, high));
+
+                if (pivotIndex == k) {
+                    return;
+                } else if (k < pivotIndex) {
+                    int equalStart = settleDuplicates(array, low, high, pivotIndex);
+                    if (k >= equalStart) {
+                        return;
+                    }
+                    high = equalStart - 1;
+                } else {
+                    low = pivotIndex + 1;
+                }
+            }
+
+            ArrayUtils.insertionSort(array, low, high, metrics);
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    // Quickselect with median-of-3 pivots that falls back to median-of-medians when two consecutive
+    // partitions fail to halve the range, keeping the worst case linear
+    public int introSelect(int[] array, int k) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("k must be between 0 and array.length - 1");
+        }
+
+        int low = 0;
+        int high = array.length - 1;
+        int checkpointSize = array.length;
+        int partitionsSinceCheckpoint = 0;
+
+        metrics.enterRecursion();
+
+        try {
+            while (high - low >= 5) {
+                int mid = low + (high - low) / 2;
+                int pivotIndex = partitionAt(array, low, high, ArrayUtils.median3(array, low, mid, high, metrics));
+
+                if (pivotIndex == k) {
+                    return array[k];
+                } else if (k < pivotIndex) {
+                    int equalStart = settleDuplicates(array, low, high, pivotIndex);
+                    if (k >= equalStart) {
+                        return array[k];
+                    }
+                    high = equalStart - 1;
+                } else {
+                    low = pivotIndex + 1;
+                }
+
+                int size = high - low + 1;
+                if (++partitionsSinceCheckpoint == 2) {
+                    if (size > checkpointSize / 2) {
+                        metrics.incrementFallbacks();
+                        selectInPlace(array, low, high, k);
+                        return array[k];
+                    }
+                    checkpointSize = size;
+                    partitionsSinceCheckpoint = 0;
+                }
+            }
+
+            ArrayUtils.insertionSort(array, low, high, metrics);
+            return array[k];
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    // Floyd-Rivest: recursively narrows [low, high] around a sample-estimated window that almost surely
+    // contains rank k, so the outer partitions need about n + min(k, n - k) comparisons
+    public int floydRivestSelect(int[] array, int k) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("k must be between 0 and array.length - 1");
+        }
+
+        floydRivest(array, 0, array.length - 1, k);
+        return array[k];
+    }
+
+    private void floydRivest(int[] array, int low, int high, int k) {
+        metrics.enterRecursion();
+
+        try {
+            while (high > low) {
+                if (high - low > FLOYD_RIVEST_SAMPLE_THRESHOLD) {
+                    int n = high - low + 1;
+                    int i = k - low + 1;
+                    double z = Math.log(n);
+                    double s = 0.5 * Math.exp(2 * z / 3);
+                    double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Math.signum(i - n / 2.0);
+                    int sampleLow = (int) Math.max(low, Math.floor(k - i * s / n + sd));
+                    int sampleHigh = (int) Math.min(high, Math.floor(k + (n - i) * s / n + sd));
+                    floydRivest(array, sampleLow, sampleHigh, k);
+                }
+
+                int pivot = array[k];
+                int i = low;
+                int j = high;
+
+                ArrayUtils.swap(array, low, k, metrics);
+                metrics.incrementComparisons();
+                if (array[high] > pivot) {
+                    ArrayUtils.swap(array, high, low, metrics);
+                }
+
+                while (i < j) {
+                    ArrayUtils.swap(array, i, j, metrics);
+                    i++;
+                    j--;
+                    while (countedLess(array[i], pivot)) {
+                        i++;
+                    }
+                    while (countedLess(pivot, array[j])) {
+                        j--;
+                    }
+                }
+
+                metrics.incrementComparisons();
+                if (array[low] == pivot) {
+                    ArrayUtils.swap(array, low, j, metrics);
+                } else {
+                    j++;
+                    ArrayUtils.swap(array, j, high, metrics);
+                }
+
+                if (j <= k) {
+                    low = j + 1;
+                }
+                if (k <= j) {
+                    high = j - 1;
+                }
+            }
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    private boolean countedLess(int a, int b) {
+        metrics.incrementComparisons();
+        return a < b;
+    }
+
+    // After a lopsided Lomuto partition, moves keys equal to the pivot next to it so a run of duplicates is
+    // settled at once instead of one element per pass; returns the first index of the equal block
+    private int settleDuplicates(int[] array, int low, int high, int pivotIndex) {
+        if (pivotIndex - low <= 3 * (high - low + 1) / 4) {
+            return pivotIndex;
+        }
+
+        int pivot = array[pivotIndex];
+        int equalStart = pivotIndex;
+        for (int i = pivotIndex - 1; i >= low; i--) {
+            metrics.incrementComparisons();
+            if (array[i] == pivot) {
+                ArrayUtils.swap(array, i, --equalStart, metrics);
+            }
+        }
+        return equalStart;
+    }
+
+    private int medianOfMediansIndex(int[] array, int low, int high) {
+        int numMedians = 0;
+
+        for (int groupLow = low; groupLow <= high; groupLow += 5) {
+            int groupHigh = Math.min(groupLow + 4, high);
+
+            ArrayUtils.insertionSort(array, groupLow, groupHigh, metrics);
+            ArrayUtils.swap(array, groupLow + (groupHigh - groupLow) / 2, low + numMedians, metrics);
+            numMedians++;
+        }
+
+        int middle = low + (numMedians - 1) / 2;
+        if (numMedians > 1) {
+            selectInPlace(array, low, low + numMedians - 1, middle);
+        }
+        return middle;
+    }
+
+    private int partitionAt(int[] array, int low, int high, int pivotIndex) {
+        ArrayUtils.swap(array, pivotIndex, high, metrics);
+        return ArrayUtils.partition(array, low, high, metrics);
+    }
+
     private int findMedianOfMedians(int[] array, int low, int high) {
         int n = high - low + 1;
         int numGroups = (n + 4) / 5;
@@ -0,0 +1,19 @@
+package org.example.algorithms;
+
+// Nearest-candidate search over packed coordinate arrays. The vector implementation needs the
+// jdk.incubator.vector module at run time (--add-modules jdk.incubator.vector); without it preferred()
+// falls back to the scalar loop.
+public interface DistanceKernel {
+
+    // Index j in [from, to) with the smallest squared distance to (x, y), the lowest such index on ties, or -1
+    // if the range is empty
+    int nearest(double[] xs, double[] ys, double x, double y, int from, int to);
+
+    static DistanceKernel scalar() {
+        return ScalarDistanceKernel.INSTANCE;
+    }
+
+    static DistanceKernel preferred() {
+        return DistanceKernels.PREFERRED;
+    }
+}
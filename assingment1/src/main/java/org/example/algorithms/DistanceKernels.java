@@ -0,0 +1,22 @@
+package org.example.algorithms;
+
+final class DistanceKernels {
+    static final DistanceKernel PREFERRED = load();
+
+    private DistanceKernels() {
+    }
+
+    // Loaded by name so the vector classes are never linked when the module is missing
+    private static DistanceKernel load() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (DistanceKernel) Class.forName("org.example.algorithms.VectorDistanceKernel")
+                    .getDeclaredConstructor()
+                    .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Fall through to the scalar kernel
+            }
+        }
+        return ScalarDistanceKernel.INSTANCE;
+    }
+}
@@ -0,0 +1,347 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Closest pair under insertions and deletions. Every point records its nearest neighbour among the points
+// alive when that neighbour was computed, and an indexed min-heap orders points by that distance. For any two
+// live points the one whose neighbour was computed later saw the other, so the heap minimum is always the
+// closest pair. Neighbour queries run against a logarithmic-method stack of static KdTrees: level i holds at
+// most 2^i points, removed points stay behind as tombstones, and the whole structure is rebuilt once
+// tombstones outnumber live points.
+public class DynamicClosestPair {
+    private static final int NONE = -1;
+    private static final int MAX_LEVELS = 32;
+    private static final int MIN_CAPACITY = 16;
+
+    private final MetricsCollector metrics;
+    private final Map<Point, Integer> handlesByPoint = new HashMap<>();
+    private final KdTree[] trees = new KdTree[MAX_LEVELS];
+    private final int[][] levelHandles = new int[MAX_LEVELS][];
+
+    // Indexed by handle; a removed point leaves a null behind until the next rebuild
+    private Point[] points;
+    private int[] nearest;
+    private double[] nearestDistance;
+    private int[] duplicateNext;
+    // Every point sits in the reverse list of its nearest neighbour, so a removal finds whose neighbour it was
+    private int[] reverseHead;
+    private int[] reverseNext;
+    private int[] reversePrev;
+    private int[] heap;
+    private int[] heapIndex;
+    private int heapSize;
+    private int handles;
+    private int live;
+    private int tombstones;
+
+    public DynamicClosestPair(Point[] initial, MetricsCollector metrics) {
+        if (initial == null) {
+            throw new IllegalArgumentException("Initial points must not be null");
+        }
+
+        this.metrics = metrics;
+        points = new Point[Math.max(MIN_CAPACITY, initial.length)];
+        for (Point point : initial) {
+            if (point == null) {
+                throw new IllegalArgumentException("Points must not be null");
+            }
+            points[handles++] = point;
+        }
+        live = handles;
+        rebuild();
+    }
+
+    public int size() {
+        return live;
+    }
+
+    public ClosestPair.PointPair closest() {
+        if (heapSize == 0) {
+            throw new IllegalStateException("Need at least 2 points");
+        }
+
+        int first = heap[0];
+        return new ClosestPair.PointPair(points[first], points[nearest[first]]);
+    }
+
+    public void insert(Point point) {
+        if (point == null) {
+            throw new IllegalArgumentException("Points must not be null");
+        }
+
+        if (handles == points.length) {
+            grow();
+        }
+        int handle = handles++;
+        points[handle] = point;
+        nearest[handle] = NONE;
+        reverseHead[handle] = NONE;
+        heapIndex[handle] = NONE;
+        live++;
+
+        Integer duplicate = handlesByPoint.put(point, handle);
+        duplicateNext[handle] = duplicate == null ? NONE : duplicate;
+
+        addToLevels(handle);
+        assign(handle, findNearest(handle));
+    }
+
+    // Removes one point equal to the given one; returns false if there is none
+    public boolean remove(Point point) {
+        Integer found = point == null ? null : handlesByPoint.get(point);
+        if (found == null) {
+            return false;
+        }
+
+        int handle = found;
+        if (duplicateNext[handle] == NONE) {
+            handlesByPoint.remove(point);
+        } else {
+            handlesByPoint.put(point, duplicateNext[handle]);
+        }
+
+        points[handle] = null;
+        live--;
+        tombstones++;
+        assign(handle, NONE);
+
+        // Points whose neighbour was the removed one look again among the survivors
+        int orphan = reverseHead[handle];
+        reverseHead[handle] = NONE;
+        while (orphan != NONE) {
+            int next = reverseNext[orphan];
+            nearest[orphan] = NONE;
+            assign(orphan, findNearest(orphan));
+            orphan = next;
+        }
+
+        if (tombstones > live) {
+            rebuild();
+        }
+        return true;
+    }
+
+    // Compacts live points into fresh handles, loads them into one tree and recomputes every neighbour
+    private void rebuild() {
+        Point[] survivors = new Point[live];
+        int count = 0;
+        for (int handle = 0; handle < handles; handle++) {
+            if (points[handle] != null) {
+                survivors[count++] = points[handle];
+            }
+        }
+
+        int capacity = Math.max(MIN_CAPACITY, 2 * live);
+        points = Arrays.copyOf(survivors, capacity);
+        nearest = new int[capacity];
+        nearestDistance = new double[capacity];
+        duplicateNext = new int[capacity];
+        reverseHead = new int[capacity];
+        reverseNext = new int[capacity];
+        reversePrev = new int[capacity];
+        heap = new int[capacity];
+        heapIndex = new int[capacity];
+        metrics.incrementAllocations(); // For the per-handle arrays
+        handles = live;
+        tombstones = 0;
+        heapSize = 0;
+
+        Arrays.fill(trees, null);
+        Arrays.fill(levelHandles, null);
+        handlesByPoint.clear();
+        for (int handle = 0; handle < live; handle++) {
+            Integer duplicate = handlesByPoint.put(points[handle], handle);
+            duplicateNext[handle] = duplicate == null ? NONE : duplicate;
+        }
+
+        if (live > 0) {
+            int level = 32 - Integer.numberOfLeadingZeros(live - 1);
+            int[] levelHandle = new int[live];
+            for (int handle = 0; handle < live; handle++) {
+                levelHandle[handle] = handle;
+            }
+            trees[level] = new KdTree(survivors, metrics);
+            levelHandles[level] = levelHandle;
+        }
+
+        Arrays.fill(nearest, 0, live, NONE);
+        Arrays.fill(reverseHead, 0, live, NONE);
+        Arrays.fill(heapIndex, 0, live, NONE);
+        for (int handle = 0; handle < live; handle++) {
+            assign(handle, findNearest(handle));
+        }
+    }
+
+    private void grow() {
+        int capacity = points.length * 2;
+        points = Arrays.copyOf(points, capacity);
+        nearest = Arrays.copyOf(nearest, capacity);
+        nearestDistance = Arrays.copyOf(nearestDistance, capacity);
+        duplicateNext = Arrays.copyOf(duplicateNext, capacity);
+        reverseHead = Arrays.copyOf(reverseHead, capacity);
+        reverseNext = Arrays.copyOf(reverseNext, capacity);
+        reversePrev = Arrays.copyOf(reversePrev, capacity);
+        heap = Arrays.copyOf(heap, capacity);
+        heapIndex = Arrays.copyOf(heapIndex, capacity);
+        metrics.incrementAllocations();
+    }
+
+    // Merges levels 0..j-1 and the new point into the first empty level j, dropping tombstones on the way
+    private void addToLevels(int handle) {
+        int level = 0;
+        int merged = 1;
+        while (trees[level] != null) {
+            merged += levelHandles[level].length;
+            level++;
+        }
+
+        int[] levelHandle = new int[merged];
+        int count = 0;
+        for (int i = 0; i < level; i++) {
+            for (int member : levelHandles[i]) {
+                if (points[member] != null) {
+                    levelHandle[count++] = member;
+                } else {
+                    tombstones--;
+                }
+            }
+            trees[i] = null;
+            levelHandles[i] = null;
+        }
+        levelHandle[count++] = handle;
+
+        levelHandle = Arrays.copyOf(levelHandle, count);
+        Point[] levelPoints = new Point[count];
+        for (int i = 0; i < count; i++) {
+            levelPoints[i] = points[levelHandle[i]];
+        }
+        trees[level] = new KdTree(levelPoints, metrics);
+        levelHandles[level] = levelHandle;
+    }
+
+    private int findNearest(int handle) {
+        Point point = points[handle];
+        int best = NONE;
+        double bestDistance = Double.POSITIVE_INFINITY;
+
+        for (int level = 0; level < MAX_LEVELS; level++) {
+            if (trees[level] == null) {
+                continue;
+            }
+
+            int[] levelHandle = levelHandles[level];
+            int local = trees[level].nearest(point.x, point.y,
+                id -> levelHandle[id] == handle || points[levelHandle[id]] == null, metrics);
+            if (local == NONE) {
+                continue;
+            }
+
+            double distance = point.distanceTo(points[levelHandle[local]]);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = levelHandle[local];
+            }
+        }
+        return best;
+    }
+
+    // Points handle at a new neighbour (NONE takes it out of the heap) and fixes the reverse list and heap
+    private void assign(int handle, int neighbour) {
+        if (nearest[handle] != NONE) {
+            unlink(handle);
+        }
+        nearest[handle] = neighbour;
+
+        if (neighbour == NONE) {
+            if (heapIndex[handle] != NONE) {
+                heapRemove(handle);
+            }
+            return;
+        }
+
+        nearestDistance[handle] = points[handle].distanceTo(points[neighbour]);
+        reversePrev[handle] = NONE;
+        reverseNext[handle] = reverseHead[neighbour];
+        if (reverseHead[neighbour] != NONE) {
+            reversePrev[reverseHead[neighbour]] = handle;
+        }
+        reverseHead[neighbour] = handle;
+
+        if (heapIndex[handle] == NONE) {
+            heap[heapSize] = handle;
+            heapIndex[handle] = heapSize++;
+        }
+        siftUp(heapIndex[handle]);
+        siftDown(heapIndex[handle]);
+    }
+
+    private void unlink(int handle) {
+        int prev = reversePrev[handle];
+        int next = reverseNext[handle];
+        if (prev == NONE) {
+            reverseHead[nearest[handle]] = next;
+        } else {
+            reverseNext[prev] = next;
+        }
+        if (next != NONE) {
+            reversePrev[next] = prev;
+        }
+    }
+
+    private void heapRemove(int handle) {
+        int index = heapIndex[handle];
+        heapIndex[handle] = NONE;
+        heapSize--;
+        if (index == heapSize) {
+            return;
+        }
+
+        int moved = heap[heapSize];
+        heap[index] = moved;
+        heapIndex[moved] = index;
+        siftUp(index);
+        siftDown(heapIndex[moved]);
+    }
+
+    private void siftUp(int index) {
+        int handle = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            metrics.incrementComparisons();
+            if (nearestDistance[heap[parent]] <= nearestDistance[handle]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            heapIndex[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = handle;
+        heapIndex[handle] = index;
+    }
+
+    private void siftDown(int index) {
+        int handle = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && nearestDistance[heap[child + 1]] < nearestDistance[heap[child]]) {
+                child++;
+            }
+            metrics.incrementComparisons();
+            if (nearestDistance[handle] <= nearestDistance[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            heapIndex[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = handle;
+        heapIndex[handle] = index;
+    }
+}
@@ -0,0 +1,276 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ExternalMergeSort {
+    private static final long MIN_MEMORY_BYTES = 16 * 1024;
+    private static final int MIN_BUFFER_BYTES = 4 * 1024;
+    private static final int MAX_BUFFER_BYTES = 64 * 1024 * 1024;
+    private static final int MAX_CHUNK_INTS = 1 << 28;
+    // Also bounds how many run files are open at once
+    private static final int MAX_FAN_IN = 512;
+
+    private final MetricsCollector metrics;
+
+    public ExternalMergeSort(MetricsCollector metrics) {
+        this.metrics = metrics;
+    }
+
+    // Sorts a file of big-endian int32 values using roughly memoryBytes of heap
+    public void sort(Path input, Path output, long memoryBytes) throws IOException {
+        if (memoryBytes < MIN_MEMORY_BYTES) {
+            throw new IllegalArgumentException("Memory budget must be at least " + MIN_MEMORY_BYTES + " bytes");
+        }
+
+        long fileBytes = Files.size(input);
+        if (fileBytes % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Input size is not a multiple of 4 bytes: " + input);
+        }
+
+        Path parent = output.toAbsolutePath().getParent();
+        Path runDirectory = Files.createTempDirectory(parent, "extsort-");
+        List<Path> runs = new ArrayList<>();
+
+        try {
+            createSortedRuns(input, fileBytes, memoryBytes, runDirectory, runs);
+            mergeRuns(runs, output, memoryBytes, runDirectory);
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+            Files.deleteIfExists(runDirectory);
+        }
+    }
+
+    private void createSortedRuns(Path input, long fileBytes, long memoryBytes, Path runDirectory,
+                                  List<Path> runs) throws IOException {
+        // The budget covers the write buffer, the chunk and an equal-sized scratch buffer for the in-memory
+        // engine; all three are allocated once and reused for every run
+        int writeBytes = bufferSize(memoryBytes / 8);
+        int chunkInts = (int) Math.max(1, Math.min(MAX_CHUNK_INTS, (memoryBytes - writeBytes) / (2L * Integer.BYTES)));
+        long totalInts = fileBytes / Integer.BYTES;
+
+        int[] chunk = new int[(int) Math.min(chunkInts, Math.max(1, totalInts))];
+        int[] scratch = new int[chunk.length];
+        ByteBuffer writeBuffer = ByteBuffer.allocateDirect(writeBytes);
+        metrics.incrementAllocations();
+
+        RadixSort sorter = new RadixSort(metrics);
+
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            for (long offset = 0; offset < totalInts; offset += chunkInts) {
+                int count = (int) Math.min(chunkInts, totalInts - offset);
+
+                IntBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, offset * Integer.BYTES,
+                    (long) count * Integer.BYTES).asIntBuffer();
+                mapped.get(chunk, 0, count);
+
+                sorter.sort(chunk, count, scratch);
+
+                Path run = Files.createTempFile(runDirectory, "run-", ".bin");
+                runs.add(run);
+                metrics.incrementRuns();
+
+                try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE)) {
+                    writeInts(out, chunk, count, writeBuffer);
+                }
+            }
+        }
+    }
+
+    private void writeInts(FileChannel out, int[] data, int count, ByteBuffer buffer) throws IOException {
+        int position = 0;
+        while (position < count) {
+            buffer.clear();
+            int batch = Math.min(count - position, buffer.capacity() / Integer.BYTES);
+            buffer.asIntBuffer().put(data, position, batch);
+            buffer.limit(batch * Integer.BYTES);
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            position += batch;
+        }
+    }
+
+    // Merges the oldest runs in groups of at most maxFanIn into new runs until a single pass can finish
+    private void mergeRuns(List<Path> runs, Path output, long memoryBytes, Path runDirectory) throws IOException {
+        int fanIn = maxFanIn(memoryBytes);
+
+        while (runs.size() > fanIn) {
+            List<Path> group = new ArrayList<>(runs.subList(0, fanIn));
+            Path merged = Files.createTempFile(runDirectory, "run-", ".bin");
+            runs.add(merged); // Listed before merging so cleanup removes it if the pass fails
+
+            mergeGroup(group, merged, memoryBytes);
+
+            for (Path run : group) {
+                Files.delete(run);
+            }
+            runs.subList(0, fanIn).clear();
+        }
+
+        mergeGroup(runs, output, memoryBytes);
+    }
+
+    // Largest fan-in whose run buffers plus the output buffer, each at least MIN_BUFFER_BYTES, fit the budget
+    static int maxFanIn(long memoryBytes) {
+        return (int) Math.max(2, Math.min(MAX_FAN_IN, memoryBytes / MIN_BUFFER_BYTES - 1));
+    }
+
+    private void mergeGroup(List<Path> runs, Path output, long memoryBytes) throws IOException {
+        int k = runs.size();
+        // One buffer per run plus one for the output
+        int bufferBytes = bufferSize(memoryBytes / (k + 1));
+
+        RunReader[] readers = new RunReader[k];
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = 0; i < k; i++) {
+                readers[i] = new RunReader(runs.get(i), bufferBytes);
+                readers[i].advance();
+            }
+            metrics.incrementAllocations();
+
+            ByteBuffer outBuffer = ByteBuffer.allocateDirect(bufferBytes);
+
+            if (k > 0) {
+                LoserTree tree = new LoserTree(readers);
+                RunReader winner;
+                while (!(winner = readers[tree.winner()]).exhausted) {
+                    if (!outBuffer.hasRemaining()) {
+                        flush(out, outBuffer);
+                    }
+                    outBuffer.putInt(winner.head);
+                    metrics.incrementSwaps();
+
+                    winner.advance();
+                    tree.replay();
+                }
+            }
+
+            flush(out, outBuffer);
+        } finally {
+            for (RunReader reader : readers) {
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static int bufferSize(long bytes) {
+        long clamped = Math.max(MIN_BUFFER_BYTES, Math.min(MAX_BUFFER_BYTES, bytes));
+        return (int) (clamped & ~(Integer.BYTES - 1));
+    }
+
+    private static final class RunReader implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private int head;
+        private boolean exhausted;
+
+        RunReader(Path run, int bufferBytes) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+            this.buffer.flip();
+        }
+
+        void advance() throws IOException {
+            if (buffer.remaining() < Integer.BYTES && !fill()) {
+                exhausted = true;
+                return;
+            }
+            head = buffer.getInt();
+        }
+
+        private boolean fill() throws IOException {
+            buffer.compact();
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the buffer is full or the run ends
+            }
+            buffer.flip();
+            return buffer.remaining() >= Integer.BYTES;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // Tournament tree over the run heads: tree[0] holds the winner, tree[1..k-1] the loser of each match
+    private final class LoserTree {
+        private final RunReader[] runs;
+        private final int[] tree;
+        private final int k;
+
+        LoserTree(RunReader[] runs) {
+            this.runs = runs;
+            this.k = runs.length;
+            this.tree = new int[k];
+
+            int[] winners = new int[2 * k];
+            for (int i = 0; i < k; i++) {
+                winners[k + i] = i;
+            }
+            for (int node = k - 1; node >= 1; node--) {
+                int left = winners[2 * node];
+                int right = winners[2 * node + 1];
+                if (beats(left, right)) {
+                    winners[node] = left;
+                    tree[node] = right;
+                } else {
+                    winners[node] = right;
+                    tree[node] = left;
+                }
+            }
+            tree[0] = k == 1 ? 0 : winners[1];
+        }
+
+        int winner() {
+            return tree[0];
+        }
+
+        // Re-plays the matches on the path from the previous winner's leaf to the root
+        void replay() {
+            int winner = tree[0];
+            for (int node = (winner + k) / 2; node >= 1; node /= 2) {
+                if (beats(tree[node], winner)) {
+                    int loser = winner;
+                    winner = tree[node];
+                    tree[node] = loser;
+                }
+            }
+            tree[0] = winner;
+        }
+
+        private boolean beats(int a, int b) {
+            if (runs[a].exhausted) {
+                return false;
+            }
+            if (runs[b].exhausted) {
+                return true;
+            }
+            metrics.incrementComparisons();
+            return runs[a].head < runs[b].head || (runs[a].head == runs[b].head && a < b);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Every pair within a fixed radius, found on a uniform grid of square cells as wide as the radius. Points are
+// sorted into row-major cell order, so each cell is a contiguous run; a cell is checked against itself and
+// the four neighbours ahead of it (right, and the three below), so every close pair is seen exactly once.
+// Work is O(n log n) for the sort plus the pairs examined, which grows with the number of pairs reported.
+public class FixedRadiusNeighbors {
+    private static final int DEFAULT_CUTOFF = 1 << 13;
+    private static final double MAX_CELLS_PER_AXIS = 1L << 40;
+
+    private final MetricsCollector metrics;
+    private final ForkJoinPool pool;
+    private final int cutoff;
+
+    @FunctionalInterface
+    public interface PairConsumer {
+        void accept(int first, int second, double distance);
+    }
+
+    public FixedRadiusNeighbors(MetricsCollector metrics) {
+        this(metrics, ForkJoinPool.commonPool());
+    }
+
+    public FixedRadiusNeighbors(MetricsCollector metrics, ForkJoinPool pool) {
+        this(metrics, pool, DEFAULT_CUTOFF);
+    }
+
+    public FixedRadiusNeighbors(MetricsCollector metrics, ForkJoinPool pool, int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        this.metrics = metrics;
+        this.pool = pool;
+        this.cutoff = cutoff;
+    }
+
+    public void forEachPairWithin(Point[] points, double radius, PairConsumer consumer) {
+        if (points == null) {
+            throw new IllegalArgumentException("Points must not be null");
+        }
+
+        double[] xs = new double[points.length];
+        double[] ys = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+        }
+        metrics.incrementAllocations(); // For coordinate arrays
+
+        forEachPairWithin(xs, ys, radius, consumer);
+    }
+
+    // Calls consumer once for every pair of indices at distance <= radius, with first < second. Cells are
+    // processed in parallel, so the consumer can be called from several threads at once and must be
+    // thread-safe. Distance checks count as comparisons and reported pairs as matches
+    public void forEachPairWithin(double[] xs, double[] ys, double radius, PairConsumer consumer) {
+        if (xs == null || ys == null || consumer == null) {
+            throw new IllegalArgumentException("Coordinates and consumer must not be null");
+        }
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must have the same length");
+        }
+        if (!(radius > 0) || Double.isInfinite(radius)) {
+            throw new IllegalArgumentException("Radius must be positive and finite");
+        }
+        if (xs.length < 2) {
+            return;
+        }
+
+        Grid grid = new Grid(xs, ys, radius);
+        CellTask root = new CellTask(grid, consumer, 0, grid.cells, metrics.fork());
+        pool.invoke(root);
+        metrics.merge(root.taskMetrics);
+    }
+
+    // Points in row-major cell order with their coordinates packed alongside, plus one entry per occupied cell
+    private final class Grid {
+        private final double radiusSquared;
+        private final int[] order;
+        private final double[] xs;
+        private final double[] ys;
+        private final int[] cellStart;
+        private final double[] cellXs;
+        private final double[] cellYs;
+        private final int cells;
+
+        Grid(double[] pointXs, double[] pointYs, double radius) {
+            int n = pointXs.length;
+            radiusSquared = radius * radius;
+
+            double minX = Double.POSITIVE_INFINITY;
+            double minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY;
+            double maxY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < n; i++) {
+                minX = Math.min(minX, pointXs[i]);
+                minY = Math.min(minY, pointYs[i]);
+                maxX = Math.max(maxX, pointXs[i]);
+                maxY = Math.max(maxY, pointYs[i]);
+            }
+
+            // Cell numbers are whole doubles and must stay exact so that column + 1 is the next column. A tiny
+            // radius over a wide extent gets cells wider than the radius, which costs checks but misses nothing
+            double cellSize = Math.max(radius, Math.max(maxX - minX, maxY - minY) / MAX_CELLS_PER_AXIS);
+            double[] columns = new double[n];
+            double[] rows = new double[n];
+            order = new int[n];
+            for (int i = 0; i < n; i++) {
+                columns[i] = Math.floor((pointXs[i] - minX) / cellSize);
+                rows[i] = Math.floor((pointYs[i] - minY) / cellSize);
+                order[i] = i;
+            }
+
+            // Two stable passes give row-major order: by column first, then by row. The sort runs uncounted so
+            // comparisons stay the distance checks alone
+            MergeSort sorter = new MergeSort(MetricsCollector.noOp());
+            sorter.sortIndicesByDoubleKey(order, columns);
+            sorter.sortIndicesByDoubleKey(order, rows);
+
+            xs = new double[n];
+            ys = new double[n];
+            int[] starts = new int[n + 1];
+            double[] startColumns = new double[n];
+            double[] startRows = new double[n];
+            int count = 0;
+            for (int k = 0; k < n; k++) {
+                int point = order[k];
+                xs[k] = pointXs[point];
+                ys[k] = pointYs[point];
+                if (k == 0 || columns[point] != startColumns[count - 1] || rows[point] != startRows[count - 1]) {
+                    starts[count] = k;
+                    startColumns[count] = columns[point];
+                    startRows[count] = rows[point];
+                    count++;
+                }
+            }
+            starts[count] = n;
+            metrics.incrementAllocations(); // For the cell arrays
+
+            cells = count;
+            cellStart = starts;
+            cellXs = startColumns;
+            cellYs = startRows;
+        }
+
+        // First cell at or after (column, row) in row-major order
+        int lowerBound(double column, double row) {
+            int low = 0;
+            int high = cells;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cellYs[mid] < row || (cellYs[mid] == row && cellXs[mid] < column)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private final class CellTask extends RecursiveAction {
+        private final Grid grid;
+        private final PairConsumer consumer;
+        private final int fromCell;
+        private final int toCell;
+        private final MetricsCollector taskMetrics;
+
+        CellTask(Grid grid, PairConsumer consumer, int fromCell, int toCell, MetricsCollector taskMetrics) {
+            this.grid = grid;
+            this.consumer = consumer;
+            this.fromCell = fromCell;
+            this.toCell = toCell;
+            this.taskMetrics = taskMetrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (toCell - fromCell == 1 || grid.cellStart[toCell] - grid.cellStart[fromCell] <= cutoff) {
+                for (int cell = fromCell; cell < toCell; cell++) {
+                    searchCell(cell);
+                }
+                return;
+            }
+
+            taskMetrics.enterRecursion();
+
+            try {
+                int mid = (fromCell + toCell) >>> 1;
+                CellTask left = new CellTask(grid, consumer, fromCell, mid, taskMetrics.fork());
+                CellTask right = new CellTask(grid, consumer, mid, toCell, taskMetrics.fork());
+                invokeAll(left, right);
+                taskMetrics.merge(left.taskMetrics);
+                taskMetrics.merge(right.taskMetrics);
+            } finally {
+                taskMetrics.exitRecursion();
+            }
+        }
+
+        private void searchCell(int cell) {
+            int start = grid.cellStart[cell];
+            int end = grid.cellStart[cell + 1];
+            for (int i = start; i < end; i++) {
+                for (int j = i + 1; j < end; j++) {
+                    check(i, j);
+                }
+            }
+
+            double column = grid.cellXs[cell];
+            double row = grid.cellYs[cell];
+            if (cell + 1 < grid.cells && grid.cellYs[cell + 1] == row && grid.cellXs[cell + 1] == column + 1) {
+                searchPair(start, end, cell + 1);
+            }
+            for (int other = grid.lowerBound(column - 1, row + 1);
+                 other < grid.cells && grid.cellYs[other] == row + 1 && grid.cellXs[other] <= column + 1;
+                 other++) {
+                searchPair(start, end, other);
+            }
+        }
+
+        private void searchPair(int start, int end, int other) {
+            int otherStart = grid.cellStart[other];
+            int otherEnd = grid.cellStart[other + 1];
+            for (int i = start; i < end; i++) {
+                for (int j = otherStart; j < otherEnd; j++) {
+                    check(i, j);
+                }
+            }
+        }
+
+        private void check(int i, int j) {
+            double dx = grid.xs[i] - grid.xs[j];
+            double dy = grid.ys[i] - grid.ys[j];
+            double distanceSquared = dx * dx + dy * dy;
+            taskMetrics.incrementComparisons();
+            if (distanceSquared <= grid.radiusSquared) {
+                taskMetrics.incrementMatches();
+                int p = grid.order[i];
+                int q = grid.order[j];
+                consumer.accept(Math.min(p, q), Math.max(p, q), Math.sqrt(distanceSquared));
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Randomized incremental grid closest pair (Khuller-Matias / Golin et al.): points arrive in random order
+// and are bucketed into square cells as wide as the best distance so far, so only the 3x3 block around a
+// new point can hold a closer partner. The i-th point improves the answer with probability at most 2/i, and
+// a rebuild then costs O(i), so the expected total work is O(n).
+public class GridClosestPair {
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 16;
+    private static final double MAX_CELLS_PER_AXIS = 1L << 40;
+
+    private final MetricsCollector metrics;
+    private final boolean seeded;
+    private final long seed;
+
+    public GridClosestPair(MetricsCollector metrics) {
+        this(metrics, false, 0);
+    }
+
+    public GridClosestPair(MetricsCollector metrics, long seed) {
+        this(metrics, true, seed);
+    }
+
+    private GridClosestPair(MetricsCollector metrics, boolean seeded, long seed) {
+        this.metrics = metrics;
+        this.seeded = seeded;
+        this.seed = seed;
+    }
+
+    public ClosestPair.PointPair findClosestPair(Point[] points) {
+        if (points == null || points.length < 2) {
+            throw new IllegalArgumentException("Need at least 2 points");
+        }
+
+        double[] xs = new double[points.length];
+        double[] ys = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+        }
+        metrics.incrementAllocations(); // For coordinate arrays
+
+        ClosestPair.IndexPair pair = findClosestPair(xs, ys);
+        return new ClosestPair.PointPair(points[pair.first], points[pair.second]);
+    }
+
+    public ClosestPair.IndexPair findClosestPair(double[] xs, double[] ys) {
+        if (xs == null || ys == null || xs.length < 2) {
+            throw new IllegalArgumentException("Need at least 2 points");
+        }
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must have the same length");
+        }
+
+        int n = xs.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        SplittableRandom random = seeded ? new SplittableRandom(seed) : new SplittableRandom();
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+
+        Grid grid = new Grid(xs, ys, order);
+        metrics.incrementAllocations(); // For the permutation and the grid tables
+
+        int bestFirst = order[0];
+        int bestSecond = order[1];
+        double bestSquared = distanceSquared(xs, ys, bestFirst, bestSecond);
+        if (bestSquared > 0) {
+            grid.rebuild(2, Math.sqrt(bestSquared));
+        }
+
+        for (int i = 2; i < n && bestSquared > 0; i++) {
+            int point = order[i];
+            int partner = grid.nearestWithin(point, bestSquared);
+
+            if (partner == EMPTY) {
+                grid.insert(point);
+                continue;
+            }
+
+            bestFirst = partner;
+            bestSecond = point;
+            bestSquared = distanceSquared(xs, ys, partner, point);
+            if (bestSquared > 0) {
+                // Cells must shrink to the new distance; the new point is inserted by the rebuild
+                grid.rebuild(i + 1, Math.sqrt(bestSquared));
+            }
+        }
+
+        return new ClosestPair.IndexPair(bestFirst, bestSecond, Math.sqrt(bestSquared));
+    }
+
+    // Smallest power of two that holds four slots per point, capped so it stays a positive int
+    private static int tableSize(int points) {
+        long wanted = Math.max(MIN_CAPACITY, 4L * points);
+        return (int) Math.min(1 << 30, Long.highestOneBit(wanted - 1) << 1);
+    }
+
+    private static double distanceSquared(double[] xs, double[] ys, int p, int q) {
+        double dx = xs[p] - xs[q];
+        double dy = ys[p] - ys[q];
+        return dx * dx + dy * dy;
+    }
+
+    // Open-addressing table from cell coordinates to the head of an intrusive per-cell list of points.
+    // Every array is sized for all n points up front; a rebuild only clears the slots it is about to use
+    private final class Grid {
+        private final double[] xs;
+        private final double[] ys;
+        private final int[] order;
+        private final int[] next;
+        private final long[] cellXs;
+        private final long[] cellYs;
+        private final int[] heads;
+        private final double minX;
+        private final double minY;
+        private final double minCellSize;
+        private int capacity;
+        private int mask;
+        private int cells;
+        private int inserted;
+        private double cellSize;
+
+        Grid(double[] xs, double[] ys, int[] order) {
+            this.xs = xs;
+            this.ys = ys;
+            this.order = order;
+
+            double lowX = Double.POSITIVE_INFINITY;
+            double lowY = Double.POSITIVE_INFINITY;
+            double highX = Double.NEGATIVE_INFINITY;
+            double highY = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < xs.length; i++) {
+                lowX = Math.min(lowX, xs[i]);
+                lowY = Math.min(lowY, ys[i]);
+                highX = Math.max(highX, xs[i]);
+                highY = Math.max(highY, ys[i]);
+            }
+            this.minX = lowX;
+            this.minY = lowY;
+            // Cell numbers are counted from the minimum and stay far below the long range, so cx + 1 never
+            // overflows. A tiny distance over a wide extent gets cells wider than the distance, which costs
+            // comparisons but misses nothing
+            this.minCellSize = Math.max(highX - lowX, highY - lowY) / MAX_CELLS_PER_AXIS;
+
+            int maxCapacity = tableSize(xs.length);
+            this.next = new int[xs.length];
+            this.cellXs = new long[maxCapacity];
+            this.cellYs = new long[maxCapacity];
+            this.heads = new int[maxCapacity];
+        }
+
+        // Re-buckets the first count points of the random order with a new cell size
+        void rebuild(int count, double newCellSize) {
+            cellSize = Math.max(newCellSize, minCellSize);
+            capacity = Math.min(heads.length, tableSize(count));
+            mask = capacity - 1;
+            Arrays.fill(heads, 0, capacity, EMPTY);
+            cells = 0;
+            inserted = 0;
+
+            for (int i = 0; i < count; i++) {
+                insert(order[i]);
+            }
+        }
+
+        void insert(int point) {
+            // Keep the load factor at or below one half so probe sequences stay short
+            if (2 * (cells + 1) > capacity && capacity < heads.length) {
+                rebuild(inserted, cellSize);
+            }
+
+            long cx = cell(xs[point], minX);
+            long cy = cell(ys[point], minY);
+            int slot = find(cx, cy);
+            if (heads[slot] == EMPTY) {
+                cellXs[slot] = cx;
+                cellYs[slot] = cy;
+                cells++;
+            }
+            next[point] = heads[slot];
+            heads[slot] = point;
+            inserted++;
+        }
+
+        // Closest already-inserted point strictly nearer than sqrt(limitSquared), or EMPTY
+        int nearestWithin(int point, double limitSquared) {
+            double x = xs[point];
+            double y = ys[point];
+            long cx = cell(x, minX);
+            long cy = cell(y, minY);
+            int nearest = EMPTY;
+            double nearestSquared = limitSquared;
+
+            for (long gx = cx - 1; gx <= cx + 1; gx++) {
+                for (long gy = cy - 1; gy <= cy + 1; gy++) {
+                    int slot = find(gx, gy);
+                    for (int other = heads[slot]; other != EMPTY; other = next[other]) {
+                        double dx = xs[other] - x;
+                        double dy = ys[other] - y;
+                        double distanceSquared = dx * dx + dy * dy;
+                        metrics.incrementComparisons();
+                        if (distanceSquared < nearestSquared) {
+                            nearestSquared = distanceSquared;
+                            nearest = other;
+                        }
+                    }
+                }
+            }
+
+            return nearest;
+        }
+
+        private long cell(double coordinate, double origin) {
+            return (long) Math.floor((coordinate - origin) / cellSize);
+        }
+
+        // Linear probing: returns the slot holding (cx, cy), or the empty slot where it would go
+        private int find(long cx, long cy) {
+            long hash = cx * 0x9E3779B97F4A7C15L + cy * 0xC2B2AE3D27D4EB4FL;
+            int slot = (int) (hash ^ (hash >>> 32)) & mask;
+            while (heads[slot] != EMPTY && (cellXs[slot] != cx || cellYs[slot] != cy)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
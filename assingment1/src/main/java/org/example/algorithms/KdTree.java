@@ -0,0 +1,500 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntPredicate;
+
+// Bulk-loaded 2-d tree stored as flat arrays: the node for range [low, high) is its middle slot, the left
+// subtree is [low, mid) and the right subtree is (mid, high). Each node splits on the wider side of its box.
+// Queries only read the arrays, so any number of threads can query one tree at the same time. Query
+// results are indices into the Point[] the tree was built from.
+public class KdTree {
+    private static final int LEAF_SIZE = 8;
+    private static final int INSERTION_SORT_CUTOFF = 16;
+    private static final int PARALLEL_CUTOFF = 1 << 15;
+    private static final byte SPLIT_X = 0;
+    private static final byte SPLIT_Y = 1;
+    private static final int NONE = -1;
+    private static final IntPredicate SKIP_NONE = id -> false;
+    // Stateless, so every query thread can share it
+    private static final MetricsCollector QUERY_METRICS = MetricsCollector.noOp();
+
+    private final double[] xs;
+    private final double[] ys;
+    private final int[] ids;
+    private final byte[] splits;
+
+    public KdTree(Point[] points, MetricsCollector metrics) {
+        this(points, metrics, ForkJoinPool.commonPool());
+    }
+
+    public KdTree(Point[] points, MetricsCollector metrics, ForkJoinPool pool) {
+        if (points == null || points.length == 0) {
+            throw new IllegalArgumentException("Need at least 1 point");
+        }
+
+        int n = points.length;
+        xs = new double[n];
+        ys = new double[n];
+        ids = new int[n];
+        splits = new byte[n];
+        metrics.incrementAllocations();
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+            ids[i] = i;
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+
+        BuildTask root = new BuildTask(0, n, maxX - minX, maxY - minY, metrics.fork());
+        if (n < PARALLEL_CUTOFF) {
+            // Small trees are built on the calling thread without a round trip through the pool
+            root.invoke();
+        } else {
+            pool.invoke(root);
+        }
+        metrics.merge(root.taskMetrics);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int nearest(double x, double y) {
+        return nearest(x, y, SKIP_NONE, QUERY_METRICS);
+    }
+
+    // Indices of the k nearest points, closest first
+    public int[] nearest(double x, double y, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        return nearest(x, y, Math.min(k, ids.length), SKIP_NONE, QUERY_METRICS);
+    }
+
+    // Nearest point whose index is not rejected by skip, or NONE if every point is skipped. Every distance
+    // evaluated counts as a comparison on the caller's collector
+    int nearest(double x, double y, IntPredicate skip, MetricsCollector metrics) {
+        NearestSearch search = new NearestSearch(x, y, skip, metrics);
+        search.visit(0, ids.length);
+        return search.best == NONE ? NONE : ids[search.best];
+    }
+
+    // Up to k nearest unskipped points, closest first; the caller keeps k within the number of unskipped points
+    int[] nearest(double x, double y, int k, IntPredicate skip, MetricsCollector metrics) {
+        KNearestSearch search = new KNearestSearch(x, y, k, skip, metrics);
+        if (k > 0) {
+            search.visit(0, ids.length);
+        }
+        return search.sortedIds();
+    }
+
+    // Indices of every point at distance <= radius, in no particular order
+    public int[] withinRadius(double x, double y, double radius) {
+        if (!(radius >= 0)) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+
+        RadiusSearch search = new RadiusSearch(x, y, radius * radius);
+        search.visit(0, ids.length);
+        return search.results.toArray();
+    }
+
+    // Indices of every point inside the closed rectangle, in no particular order
+    public int[] inRectangle(double minX, double minY, double maxX, double maxY) {
+        if (minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("Rectangle minimum must not exceed its maximum");
+        }
+
+        RectangleSearch search = new RectangleSearch(minX, minY, maxX, maxY);
+        search.visit(0, ids.length);
+        return search.results.toArray();
+    }
+
+    private double coordinate(int slot, byte split) {
+        return split == SPLIT_X ? xs[slot] : ys[slot];
+    }
+
+    private double distanceSquared(int slot, double x, double y) {
+        double dx = xs[slot] - x;
+        double dy = ys[slot] - y;
+        return dx * dx + dy * dy;
+    }
+
+    private final class BuildTask extends RecursiveAction {
+        private final int low;
+        private final int high;
+        private final double width;
+        private final double height;
+        private final MetricsCollector taskMetrics;
+
+        BuildTask(int low, int high, double width, double height, MetricsCollector taskMetrics) {
+            this.low = low;
+            this.high = high;
+            this.width = width;
+            this.height = height;
+            this.taskMetrics = taskMetrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < PARALLEL_CUTOFF) {
+                build(low, high, width, height);
+                return;
+            }
+
+            int mid = split(low, high, width, height);
+            double childWidth = splits[mid] == SPLIT_X ? width / 2 : width;
+            double childHeight = splits[mid] == SPLIT_Y ? height / 2 : height;
+            BuildTask left = new BuildTask(low, mid, childWidth, childHeight, taskMetrics.fork());
+            BuildTask right = new BuildTask(mid + 1, high, childWidth, childHeight, taskMetrics.fork());
+            invokeAll(left, right);
+            taskMetrics.merge(left.taskMetrics);
+            taskMetrics.merge(right.taskMetrics);
+        }
+
+        private void build(int low, int high, double width, double height) {
+            while (high - low > LEAF_SIZE) {
+                taskMetrics.enterRecursion();
+
+                try {
+                    // Each child covers about half the box along the split side; the right child loops
+                    int mid = split(low, high, width, height);
+                    if (splits[mid] == SPLIT_X) {
+                        width /= 2;
+                    } else {
+                        height /= 2;
+                    }
+                    build(low, mid, width, height);
+                    low = mid + 1;
+                } finally {
+                    taskMetrics.exitRecursion();
+                }
+            }
+        }
+
+        // Places the median of [low, high) along the wider side at the middle slot and records the split
+        private int split(int low, int high, double width, double height) {
+            int mid = (low + high) >>> 1;
+            byte split = width >= height ? SPLIT_X : SPLIT_Y;
+            splits[mid] = split;
+            select(low, high - 1, mid, split);
+            return mid;
+        }
+
+        private void select(int low, int high, int k, byte split) {
+            while (high - low >= INSERTION_SORT_CUTOFF) {
+                int mid = (low + high) >>> 1;
+                double pivot = medianOf3(coordinate(low, split), coordinate(mid, split), coordinate(high, split));
+
+                int i = low;
+                int j = high;
+                while (i <= j) {
+                    while (coordinate(i, split) < pivot) {
+                        taskMetrics.incrementComparisons();
+                        i++;
+                    }
+                    while (coordinate(j, split) > pivot) {
+                        taskMetrics.incrementComparisons();
+                        j--;
+                    }
+                    taskMetrics.incrementComparisons();
+                    if (i <= j) {
+                        swap(i++, j--);
+                    }
+                }
+
+                if (k <= j) {
+                    high = j;
+                } else if (k >= i) {
+                    low = i;
+                } else {
+                    return;
+                }
+            }
+
+            for (int i = low + 1; i <= high; i++) {
+                for (int j = i; j > low && coordinate(j - 1, split) > coordinate(j, split); j--) {
+                    taskMetrics.incrementComparisons();
+                    swap(j - 1, j);
+                }
+            }
+        }
+
+        private double medianOf3(double a, double b, double c) {
+            taskMetrics.incrementComparisons();
+            taskMetrics.incrementComparisons();
+            return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+        }
+
+        private void swap(int i, int j) {
+            double x = xs[i];
+            xs[i] = xs[j];
+            xs[j] = x;
+            double y = ys[i];
+            ys[i] = ys[j];
+            ys[j] = y;
+            int id = ids[i];
+            ids[i] = ids[j];
+            ids[j] = id;
+            taskMetrics.incrementSwaps();
+        }
+    }
+
+    private final class NearestSearch {
+        private final double x;
+        private final double y;
+        private final IntPredicate skip;
+        private final MetricsCollector metrics;
+        private double bestSquared = Double.POSITIVE_INFINITY;
+        private int best = NONE;
+
+        NearestSearch(double x, double y, IntPredicate skip, MetricsCollector metrics) {
+            this.x = x;
+            this.y = y;
+            this.skip = skip;
+            this.metrics = metrics;
+        }
+
+        void visit(int low, int high) {
+            if (high - low <= LEAF_SIZE) {
+                for (int slot = low; slot < high; slot++) {
+                    offer(slot);
+                }
+                return;
+            }
+
+            int mid = (low + high) >>> 1;
+            offer(mid);
+            double diff = (splits[mid] == SPLIT_X ? x : y) - coordinate(mid, splits[mid]);
+            if (diff < 0) {
+                visit(low, mid);
+                if (diff * diff < bestSquared) {
+                    visit(mid + 1, high);
+                }
+            } else {
+                visit(mid + 1, high);
+                if (diff * diff < bestSquared) {
+                    visit(low, mid);
+                }
+            }
+        }
+
+        private void offer(int slot) {
+            if (skip.test(ids[slot])) {
+                return;
+            }
+            metrics.incrementComparisons();
+            double distanceSquared = distanceSquared(slot, x, y);
+            if (distanceSquared < bestSquared) {
+                bestSquared = distanceSquared;
+                best = slot;
+            }
+        }
+    }
+
+    // Bounded max-heap on distance: the root is the worst of the current k candidates
+    private final class KNearestSearch {
+        private final double x;
+        private final double y;
+        private final int[] heapSlots;
+        private final double[] heapDistances;
+        private final IntPredicate skip;
+        private final MetricsCollector metrics;
+        private int size;
+
+        KNearestSearch(double x, double y, int k, IntPredicate skip, MetricsCollector metrics) {
+            this.x = x;
+            this.y = y;
+            this.skip = skip;
+            this.metrics = metrics;
+            this.heapSlots = new int[k];
+            this.heapDistances = new double[k];
+        }
+
+        void visit(int low, int high) {
+            if (high - low <= LEAF_SIZE) {
+                for (int slot = low; slot < high; slot++) {
+                    offer(slot);
+                }
+                return;
+            }
+
+            int mid = (low + high) >>> 1;
+            offer(mid);
+            double diff = (splits[mid] == SPLIT_X ? x : y) - coordinate(mid, splits[mid]);
+            if (diff < 0) {
+                visit(low, mid);
+                if (diff * diff < bound()) {
+                    visit(mid + 1, high);
+                }
+            } else {
+                visit(mid + 1, high);
+                if (diff * diff < bound()) {
+                    visit(low, mid);
+                }
+            }
+        }
+
+        private double bound() {
+            return size < heapSlots.length ? Double.POSITIVE_INFINITY : heapDistances[0];
+        }
+
+        private void offer(int slot) {
+            if (skip.test(ids[slot])) {
+                return;
+            }
+            metrics.incrementComparisons();
+            double distanceSquared = distanceSquared(slot, x, y);
+            if (size < heapSlots.length) {
+                int i = size++;
+                while (i > 0 && heapDistances[(i - 1) / 2] < distanceSquared) {
+                    heapSlots[i] = heapSlots[(i - 1) / 2];
+                    heapDistances[i] = heapDistances[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                heapSlots[i] = slot;
+                heapDistances[i] = distanceSquared;
+            } else if (distanceSquared < heapDistances[0]) {
+                siftDown(slot, distanceSquared, size);
+            }
+        }
+
+        private void siftDown(int slot, double distanceSquared, int heapSize) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && heapDistances[child + 1] > heapDistances[child]) {
+                    child++;
+                }
+                if (heapDistances[child] <= distanceSquared) {
+                    break;
+                }
+                heapSlots[i] = heapSlots[child];
+                heapDistances[i] = heapDistances[child];
+                i = child;
+            }
+            heapSlots[i] = slot;
+            heapDistances[i] = distanceSquared;
+        }
+
+        // Pops the heap from the back so the closest candidate ends up first
+        int[] sortedIds() {
+            int[] result = new int[size];
+            for (int end = size - 1; end >= 0; end--) {
+                result[end] = ids[heapSlots[0]];
+                siftDown(heapSlots[end], heapDistances[end], end);
+            }
+            return result;
+        }
+    }
+
+    private final class RadiusSearch {
+        private final double x;
+        private final double y;
+        private final double radiusSquared;
+        private final IntBuffer results = new IntBuffer();
+
+        RadiusSearch(double x, double y, double radiusSquared) {
+            this.x = x;
+            this.y = y;
+            this.radiusSquared = radiusSquared;
+        }
+
+        void visit(int low, int high) {
+            if (high - low <= LEAF_SIZE) {
+                for (int slot = low; slot < high; slot++) {
+                    offer(slot);
+                }
+                return;
+            }
+
+            int mid = (low + high) >>> 1;
+            offer(mid);
+            double diff = (splits[mid] == SPLIT_X ? x : y) - coordinate(mid, splits[mid]);
+            if (diff <= 0 || diff * diff <= radiusSquared) {
+                visit(low, mid);
+            }
+            if (diff >= 0 || diff * diff <= radiusSquared) {
+                visit(mid + 1, high);
+            }
+        }
+
+        private void offer(int slot) {
+            if (distanceSquared(slot, x, y) <= radiusSquared) {
+                results.add(ids[slot]);
+            }
+        }
+    }
+
+    private final class RectangleSearch {
+        private final double minX;
+        private final double minY;
+        private final double maxX;
+        private final double maxY;
+        private final IntBuffer results = new IntBuffer();
+
+        RectangleSearch(double minX, double minY, double maxX, double maxY) {
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+        }
+
+        void visit(int low, int high) {
+            if (high - low <= LEAF_SIZE) {
+                for (int slot = low; slot < high; slot++) {
+                    offer(slot);
+                }
+                return;
+            }
+
+            int mid = (low + high) >>> 1;
+            offer(mid);
+            double splitValue = coordinate(mid, splits[mid]);
+            boolean splitOnX = splits[mid] == SPLIT_X;
+            if ((splitOnX ? minX : minY) <= splitValue) {
+                visit(low, mid);
+            }
+            if ((splitOnX ? maxX : maxY) >= splitValue) {
+                visit(mid + 1, high);
+            }
+        }
+
+        private void offer(int slot) {
+            if (xs[slot] >= minX && xs[slot] <= maxX && ys[slot] >= minY && ys[slot] <= maxY) {
+                results.add(ids[slot]);
+            }
+        }
+    }
+
+    private static final class IntBuffer {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -2,8 +2,14 @@ package org.example.algorithms;
 
 import org.example.metrics.MetricsCollector;
 
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
 public class MergeSort {
     private static final int INSERTION_SORT_CUTOFF = 10;
+    private static final int MIN_MERGE = 32;
+    private static final int MIN_GALLOP = 7;
+    private static final int MAX_RUN_STACK = 64;
     private final MetricsCollector metrics;
 
     public MergeSort(MetricsCollector metrics) {
@@ -21,6 +27,485 @@ public class MergeSort {
         mergeSort(array, auxiliary, 0, array.length - 1);
     }
 
+    public void naturalSort(int[] array) {
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        int n = array.length;
+        int[] auxiliary = new int[n];
+        metrics.incrementAllocations();
+
+        int minRun = minRunLength(n);
+        int[] runBase = new int[MAX_RUN_STACK];
+        int[] runLength = new int[MAX_RUN_STACK];
+        int stackSize = 0;
+
+        int low = 0;
+        while (low < n) {
+            int length = makeAscendingRun(array, low, n - 1) - low + 1;
+            metrics.incrementRuns();
+
+            if (length < minRun) {
+                int forced = Math.min(minRun, n - low);
+                insertionSort(array, low, low + forced - 1);
+                length = forced;
+            }
+
+            runBase[stackSize] = low;
+            runLength[stackSize] = length;
+            stackSize++;
+            stackSize = collapseRuns(array, auxiliary, runBase, runLength, stackSize, false);
+
+            low += length;
+        }
+
+        collapseRuns(array, auxiliary, runBase, runLength, stackSize, true);
+    }
+
+    private static int minRunLength(int n) {
+        int remainder = 0;
+        while (n >= MIN_MERGE) {
+            remainder |= n & 1;
+            n >>= 1;
+        }
+        return n + remainder;
+    }
+
+    // Returns the inclusive end of the run starting at low; strictly descending runs are reversed in place
+    private int makeAscendingRun(int[] array, int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh > high) {
+            return low;
+        }
+
+        metrics.incrementComparisons();
+        if (array[runHigh] < array[low]) {
+            while (runHigh < high) {
+                metrics.incrementComparisons();
+                if (array[runHigh + 1] >= array[runHigh]) {
+                    break;
+                }
+                runHigh++;
+            }
+            reverse(array, low, runHigh);
+        } else {
+            while (runHigh < high) {
+                metrics.incrementComparisons();
+                if (array[runHigh + 1] < array[runHigh]) {
+                    break;
+                }
+                runHigh++;
+            }
+        }
+
+        return runHigh;
+    }
+
+    private void reverse(int[] array, int low, int high) {
+        while (low < high) {
+            int temp = array[low];
+            array[low++] = array[high];
+            array[high--] = temp;
+            metrics.incrementSwaps();
+        }
+    }
+
+    // Keeps the TimSort invariants on the run stack (or merges everything when forced); returns the new stack size
+    private int collapseRuns(int[] array, int[] auxiliary, int[] runBase, int[] runLength, int stackSize,
+                             boolean force) {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+
+            if (force) {
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+            } else if ((n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1])
+                    || (n > 1 && runLength[n - 2] <= runLength[n - 1] + runLength[n])) {
+                if (runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+            } else if (runLength[n] > runLength[n + 1]) {
+                break;
+            }
+
+            int base = runBase[n];
+            int mid = base + runLength[n] - 1;
+            int high = mid + runLength[n + 1];
+            mergeRuns(array, auxiliary, base, mid, high);
+
+            runLength[n] += runLength[n + 1];
+            if (n == stackSize - 3) {
+                runBase[n + 1] = runBase[n + 2];
+                runLength[n + 1] = runLength[n + 2];
+            }
+            stackSize--;
+        }
+        return stackSize;
+    }
+
+    private void mergeRuns(int[] array, int[] auxiliary, int low, int mid, int high) {
+        // Left elements not above the first right element and right elements not below the last left
+        // element are already in their final place
+        low = gallopRight(array, low, mid, array[mid + 1]);
+        if (low > mid) {
+            return;
+        }
+        high = gallopLeft(array, mid + 1, high, array[mid]) - 1;
+
+        int leftLength = mid - low + 1;
+        System.arraycopy(array, low, auxiliary, 0, leftLength);
+
+        int i = 0;
+        int j = mid + 1;
+        int k = low;
+        int leftWins = 0;
+        int rightWins = 0;
+
+        while (i < leftLength && j <= high) {
+            metrics.incrementComparisons();
+            if (array[j] < auxiliary[i]) {
+                array[k++] = array[j++];
+                rightWins++;
+                leftWins = 0;
+            } else {
+                array[k++] = auxiliary[i++];
+                leftWins++;
+                rightWins = 0;
+            }
+            metrics.incrementSwaps();
+
+            if (leftWins >= MIN_GALLOP && i < leftLength && j <= high) {
+                int end = gallopRight(auxiliary, i, leftLength - 1, array[j]);
+                if (end > i) {
+                    System.arraycopy(auxiliary, i, array, k, end - i);
+                    k += end - i;
+                    i = end;
+                    metrics.incrementGallops();
+                }
+                leftWins = 0;
+            } else if (rightWins >= MIN_GALLOP && i < leftLength && j <= high) {
+                int end = gallopLeft(array, j, high, auxiliary[i]);
+                if (end > j) {
+                    System.arraycopy(array, j, array, k, end - j);
+                    k += end - j;
+                    j = end;
+                    metrics.incrementGallops();
+                }
+                rightWins = 0;
+            }
+        }
+
+        if (i < leftLength) {
+            System.arraycopy(auxiliary, i, array, k, leftLength - i);
+        }
+    }
+
+    // First index in [low, high] whose value is > key (high + 1 if none), found by exponential then binary search
+    private int gallopRight(int[] array, int low, int high, int key) {
+        int from = low;
+        int probe = low;
+        int step = 1;
+        while (probe <= high) {
+            metrics.incrementComparisons();
+            if (array[probe] > key) {
+                break;
+            }
+            from = probe + 1;
+            probe = high - probe < step ? high + 1 : probe + step;
+            step <<= 1;
+        }
+
+        int to = probe;
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            metrics.incrementComparisons();
+            if (array[mid] > key) {
+                to = mid;
+            } else {
+                from = mid + 1;
+            }
+        }
+        return from;
+    }
+
+    // First index in [low, high] whose value is >= key (high + 1 if none)
+    private int gallopLeft(int[] array, int low, int high, int key) {
+        int from = low;
+        int probe = low;
+        int step = 1;
+        while (probe <= high) {
+            metrics.incrementComparisons();
+            if (array[probe] >= key) {
+                break;
+            }
+            from = probe + 1;
+            probe = high - probe < step ? high + 1 : probe + step;
+            step <<= 1;
+        }
+
+        int to = probe;
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            metrics.incrementComparisons();
+            if (array[mid] >= key) {
+                to = mid;
+            } else {
+                from = mid + 1;
+            }
+        }
+        return from;
+    }
+
+    public void sort(long[] array) {
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        long[] auxiliary = new long[array.length];
+        metrics.incrementAllocations();
+
+        mergeSort(array, null, auxiliary, null, 0, array.length - 1);
+    }
+
+    // Orders like Double.compare: -0.0 before 0.0 and NaN after positive infinity
+    public void sort(double[] array) {
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = sortableBits(array[i]);
+        }
+        metrics.incrementAllocations();
+
+        sort(keys);
+
+        for (int i = 0; i < array.length; i++) {
+            array[i] = fromSortableBits(keys[i]);
+        }
+    }
+
+    // Stable sort of items by a key that is extracted once per item into a parallel primitive array
+    public <T> void sortByLongKey(T[] items, ToLongFunction<? super T> keyExtractor) {
+        if (items == null || items.length <= 1) {
+            return;
+        }
+
+        long[] keys = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(items[i]);
+        }
+
+        sortWithPayload(keys, items);
+    }
+
+    public <T> void sortByDoubleKey(T[] items, ToDoubleFunction<? super T> keyExtractor) {
+        if (items == null || items.length <= 1) {
+            return;
+        }
+
+        long[] keys = new long[items.length];
+        for (int i = 0; i < items.length; i++) {
+            keys[i] = sortableBits(keyExtractor.applyAsDouble(items[i]));
+        }
+
+        sortWithPayload(keys, items);
+    }
+
+    // Stable sort of an index permutation so that keys[indices[i]] ascends; the keys array is not touched
+    public void sortIndicesByDoubleKey(int[] indices, double[] keys) {
+        if (indices == null || indices.length <= 1) {
+            return;
+        }
+
+        long[] sortKeys = new long[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            sortKeys[i] = sortableBits(keys[indices[i]]);
+        }
+        long[] auxiliaryKeys = new long[indices.length];
+        int[] auxiliaryIndices = new int[indices.length];
+        metrics.incrementAllocations();
+
+        mergeSortIndexed(sortKeys, indices, auxiliaryKeys, auxiliaryIndices, 0, indices.length - 1);
+    }
+
+    private void sortWithPayload(long[] keys, Object[] items) {
+        long[] auxiliaryKeys = new long[keys.length];
+        Object[] auxiliaryItems = new Object[items.length];
+        metrics.incrementAllocations();
+
+        mergeSort(keys, items, auxiliaryKeys, auxiliaryItems, 0, keys.length - 1);
+    }
+
+    // Maps a double onto a long whose signed order matches Double.compare
+    private static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private static double fromSortableBits(long bits) {
+        return Double.longBitsToDouble(bits ^ ((bits >> 63) & Long.MAX_VALUE));
+    }
+
+    // Items, when present, are moved in lockstep with their keys
+    private void mergeSort(long[] keys, Object[] items, long[] auxiliaryKeys, Object[] auxiliaryItems,
+                           int low, int high) {
+        metrics.enterRecursion();
+
+        try {
+            if (high - low <= INSERTION_SORT_CUTOFF) {
+                insertionSort(keys, items, low, high);
+                return;
+            }
+
+            int mid = low + (high - low) / 2;
+
+            mergeSort(keys, items, auxiliaryKeys, auxiliaryItems, low, mid);
+            mergeSort(keys, items, auxiliaryKeys, auxiliaryItems, mid + 1, high);
+
+            if (keys[mid] <= keys[mid + 1]) {
+                metrics.incrementComparisons();
+                return;
+            }
+
+            merge(keys, items, auxiliaryKeys, auxiliaryItems, low, mid, high);
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    private void merge(long[] keys, Object[] items, long[] auxiliaryKeys, Object[] auxiliaryItems,
+                       int low, int mid, int high) {
+        System.arraycopy(keys, low, auxiliaryKeys, low, high - low + 1);
+        if (items != null) {
+            System.arraycopy(items, low, auxiliaryItems, low, high - low + 1);
+        }
+
+        int i = low;
+        int j = mid + 1;
+        int k = low;
+
+        while (i <= mid && j <= high) {
+            metrics.incrementComparisons();
+            int from = auxiliaryKeys[i] <= auxiliaryKeys[j] ? i++ : j++;
+            keys[k] = auxiliaryKeys[from];
+            if (items != null) {
+                items[k] = auxiliaryItems[from];
+            }
+            k++;
+            metrics.incrementSwaps();
+        }
+
+        int remaining = mid - i + 1;
+        if (remaining > 0) {
+            System.arraycopy(auxiliaryKeys, i, keys, k, remaining);
+            if (items != null) {
+                System.arraycopy(auxiliaryItems, i, items, k, remaining);
+            }
+        }
+    }
+
+    private void insertionSort(long[] keys, Object[] items, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = keys[i];
+            Object item = items != null ? items[i] : null;
+            int j = i - 1;
+
+            while (j >= low && keys[j] > key) {
+                metrics.incrementComparisons();
+                keys[j + 1] = keys[j];
+                if (items != null) {
+                    items[j + 1] = items[j];
+                }
+                metrics.incrementSwaps();
+                j--;
+            }
+
+            if (j >= low) {
+                metrics.incrementComparisons();
+            }
+
+            keys[j + 1] = key;
+            if (items != null) {
+                items[j + 1] = item;
+            }
+        }
+    }
+
+    private void mergeSortIndexed(long[] keys, int[] indices, long[] auxiliaryKeys, int[] auxiliaryIndices,
+                                  int low, int high) {
+        metrics.enterRecursion();
+
+        try {
+            if (high - low <= INSERTION_SORT_CUTOFF) {
+                insertionSortIndexed(keys, indices, low, high);
+                return;
+            }
+
+            int mid = low + (high - low) / 2;
+
+            mergeSortIndexed(keys, indices, auxiliaryKeys, auxiliaryIndices, low, mid);
+            mergeSortIndexed(keys, indices, auxiliaryKeys, auxiliaryIndices, mid + 1, high);
+
+            if (keys[mid] <= keys[mid + 1]) {
+                metrics.incrementComparisons();
+                return;
+            }
+
+            System.arraycopy(keys, low, auxiliaryKeys, low, high - low + 1);
+            System.arraycopy(indices, low, auxiliaryIndices, low, high - low + 1);
+
+            int i = low;
+            int j = mid + 1;
+            int k = low;
+
+            while (i <= mid && j <= high) {
+                metrics.incrementComparisons();
+                int from = auxiliaryKeys[i] <= auxiliaryKeys[j] ? i++ : j++;
+                keys[k] = auxiliaryKeys[from];
+                indices[k] = auxiliaryIndices[from];
+                k++;
+                metrics.incrementSwaps();
+            }
+
+            int remaining = mid - i + 1;
+            System.arraycopy(auxiliaryKeys, i, keys, k, remaining);
+            System.arraycopy(auxiliaryIndices, i, indices, k, remaining);
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    private void insertionSortIndexed(long[] keys, int[] indices, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            long key = keys[i];
+            int index = indices[i];
+            int j = i - 1;
+
+            while (j >= low && keys[j] > key) {
+                metrics.incrementComparisons();
+                keys[j + 1] = keys[j];
+                indices[j + 1] = indices[j];
+                metrics.incrementSwaps();
+                j--;
+            }
+
+            if (j >= low) {
+                metrics.incrementComparisons();
+            }
+
+            keys[j + 1] = key;
+            indices[j + 1] = index;
+        }
+    }
+
+    void sortRange(int[] array, int[] auxiliary, int low, int high) {
+        mergeSort(array, auxiliary, low, high);
+    }
+
     private void mergeSort(int[] array, int[] auxiliary, int low, int high) {
         metrics.enterRecursion();
 
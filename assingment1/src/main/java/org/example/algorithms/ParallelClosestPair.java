@@ -0,0 +1,116 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelClosestPair {
+    private static final int DEFAULT_CUTOFF = 1 << 12;
+
+    private final MetricsCollector metrics;
+    private final ForkJoinPool pool;
+    private final int cutoff;
+
+    public ParallelClosestPair(MetricsCollector metrics) {
+        this(metrics, ForkJoinPool.commonPool());
+    }
+
+    public ParallelClosestPair(MetricsCollector metrics, ForkJoinPool pool) {
+        this(metrics, pool, DEFAULT_CUTOFF);
+    }
+
+    public ParallelClosestPair(MetricsCollector metrics, ForkJoinPool pool, int cutoff) {
+        if (cutoff < 4) {
+            throw new IllegalArgumentException("Cutoff must be at least 4");
+        }
+        this.metrics = metrics;
+        this.pool = pool;
+        this.cutoff = cutoff;
+    }
+
+    public ClosestPair.PointPair findClosestPair(Point[] points) {
+        if (points == null || points.length < 2) {
+            throw new IllegalArgumentException("Need at least 2 points");
+        }
+
+        double[] xs = new double[points.length];
+        double[] ys = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+        }
+        metrics.incrementAllocations(); // For coordinate arrays
+
+        ClosestPair.IndexPair pair = findClosestPair(xs, ys);
+        return new ClosestPair.PointPair(points[pair.first], points[pair.second]);
+    }
+
+    public ClosestPair.IndexPair findClosestPair(double[] xs, double[] ys) {
+        int[] order = new ClosestPair(metrics).presortByX(xs, ys);
+        int[] scratch = new int[order.length];
+        metrics.incrementAllocations(); // For the index and scratch arrays
+
+        ClosestPairTask root = new ClosestPairTask(xs, ys, order, scratch, 0, order.length - 1, metrics.fork());
+        pool.invoke(root);
+        metrics.merge(root.taskMetrics);
+
+        return root.search.result();
+    }
+
+    // Tasks own disjoint ranges of the shared index and scratch arrays, so they never touch the same slots
+    private final class ClosestPairTask extends RecursiveAction {
+        private final double[] xs;
+        private final double[] ys;
+        private final int[] order;
+        private final int[] scratch;
+        private final int low;
+        private final int high;
+        private final MetricsCollector taskMetrics;
+        private ClosestPair.SoaSearch search;
+
+        ClosestPairTask(double[] xs, double[] ys, int[] order, int[] scratch, int low, int high,
+                        MetricsCollector taskMetrics) {
+            this.xs = xs;
+            this.ys = ys;
+            this.order = order;
+            this.scratch = scratch;
+            this.low = low;
+            this.high = high;
+            this.taskMetrics = taskMetrics;
+        }
+
+        @Override
+        protected void compute() {
+            ClosestPair finder = new ClosestPair(taskMetrics);
+
+            if (high - low < cutoff) {
+                search = finder.newSearch(xs, ys, order, scratch);
+                search.closestPair(low, high);
+                return;
+            }
+
+            taskMetrics.enterRecursion();
+
+            try {
+                int mid = (low + high) >>> 1;
+                double midX = xs[order[mid]];
+
+                ClosestPairTask left = new ClosestPairTask(xs, ys, order, scratch, low, mid, taskMetrics.fork());
+                ClosestPairTask right = new ClosestPairTask(xs, ys, order, scratch, mid + 1, high,
+                    taskMetrics.fork());
+                invokeAll(left, right);
+                taskMetrics.merge(left.taskMetrics);
+                taskMetrics.merge(right.taskMetrics);
+
+                // The strip check runs after both halves are done and starts from the better half's answer
+                search = finder.newSearch(xs, ys, order, scratch);
+                search.offer(left.search);
+                search.offer(right.search);
+                search.combine(low, mid, high, midX);
+            } finally {
+                taskMetrics.exitRecursion();
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelMergeSort {
+    private static final int DEFAULT_SORT_CUTOFF = 1 << 13;
+    private static final int DEFAULT_MERGE_CUTOFF = 1 << 14;
+
+    private final MetricsCollector metrics;
+    private final ForkJoinPool pool;
+    private final int sortCutoff;
+    private final int mergeCutoff;
+
+    public ParallelMergeSort(MetricsCollector metrics) {
+        this(metrics, ForkJoinPool.commonPool());
+    }
+
+    public ParallelMergeSort(MetricsCollector metrics, ForkJoinPool pool) {
+        this(metrics, pool, DEFAULT_SORT_CUTOFF, DEFAULT_MERGE_CUTOFF);
+    }
+
+    public ParallelMergeSort(MetricsCollector metrics, ForkJoinPool pool, int sortCutoff, int mergeCutoff) {
+        if (sortCutoff < 2 || mergeCutoff < 2) {
+            throw new IllegalArgumentException("Cutoffs must be at least 2");
+        }
+        this.metrics = metrics;
+        this.pool = pool;
+        this.sortCutoff = sortCutoff;
+        this.mergeCutoff = mergeCutoff;
+    }
+
+    public void sort(int[] array) {
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        int[] auxiliary = new int[array.length];
+        metrics.incrementAllocations();
+
+        // Each task counts into its own collector; children are merged into the parent after join
+        SortTask root = new SortTask(array, auxiliary, 0, array.length - 1, metrics.fork());
+        pool.invoke(root);
+        metrics.merge(root.taskMetrics);
+    }
+
+    private final class SortTask extends RecursiveAction {
+        private final int[] array;
+        private final int[] auxiliary;
+        private final int low;
+        private final int high;
+        private final MetricsCollector taskMetrics;
+
+        SortTask(int[] array, int[] auxiliary, int low, int high, MetricsCollector taskMetrics) {
+            this.array = array;
+            this.auxiliary = auxiliary;
+            this.low = low;
+            this.high = high;
+            this.taskMetrics = taskMetrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < sortCutoff) {
+                new MergeSort(taskMetrics).sortRange(array, auxiliary, low, high);
+                return;
+            }
+
+            taskMetrics.enterRecursion();
+
+            try {
+                int mid = low + (high - low) / 2;
+
+                SortTask left = new SortTask(array, auxiliary, low, mid, taskMetrics.fork());
+                SortTask right = new SortTask(array, auxiliary, mid + 1, high, taskMetrics.fork());
+                invokeAll(left, right);
+                taskMetrics.merge(left.taskMetrics);
+                taskMetrics.merge(right.taskMetrics);
+
+                if (array[mid] <= array[mid + 1]) {
+                    taskMetrics.incrementComparisons();
+                    return;
+                }
+
+                System.arraycopy(array, low, auxiliary, low, high - low + 1);
+
+                MergeTask merge = new MergeTask(auxiliary, array, low, mid, mid + 1, high, low, taskMetrics.fork());
+                merge.invoke();
+                taskMetrics.merge(merge.taskMetrics);
+            } finally {
+                taskMetrics.exitRecursion();
+            }
+        }
+    }
+
+    // Merges source[low1..high1] and source[low2..high2] into target starting at dest
+    private final class MergeTask extends RecursiveAction {
+        private final int[] source;
+        private final int[] target;
+        private final int low1;
+        private final int high1;
+        private final int low2;
+        private final int high2;
+        private final int dest;
+        private final MetricsCollector taskMetrics;
+
+        MergeTask(int[] source, int[] target, int low1, int high1, int low2, int high2, int dest,
+                  MetricsCollector taskMetrics) {
+            this.source = source;
+            this.target = target;
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.dest = dest;
+            this.taskMetrics = taskMetrics;
+        }
+
+        @Override
+        protected void compute() {
+            int n1 = high1 - low1 + 1;
+            int n2 = high2 - low2 + 1;
+
+            if (n1 + n2 <= mergeCutoff) {
+                sequentialMerge();
+                return;
+            }
+
+            MergeTask left;
+            MergeTask right;
+
+            if (n1 >= n2) {
+                int mid1 = low1 + (high1 - low1) / 2;
+                int mid2 = lowerBound(source, low2, high2 + 1, source[mid1]);
+                int split = dest + (mid1 - low1) + (mid2 - low2);
+                target[split] = source[mid1];
+                taskMetrics.incrementSwaps();
+
+                left = new MergeTask(source, target, low1, mid1 - 1, low2, mid2 - 1, dest, taskMetrics.fork());
+                right = new MergeTask(source, target, mid1 + 1, high1, mid2, high2, split + 1, taskMetrics.fork());
+            } else {
+                int mid2 = low2 + (high2 - low2) / 2;
+                int mid1 = upperBound(source, low1, high1 + 1, source[mid2]);
+                int split = dest + (mid1 - low1) + (mid2 - low2);
+                target[split] = source[mid2];
+                taskMetrics.incrementSwaps();
+
+                left = new MergeTask(source, target, low1, mid1 - 1, low2, mid2 - 1, dest, taskMetrics.fork());
+                right = new MergeTask(source, target, mid1, high1, mid2 + 1, high2, split + 1, taskMetrics.fork());
+            }
+
+            invokeAll(left, right);
+            taskMetrics.merge(left.taskMetrics);
+            taskMetrics.merge(right.taskMetrics);
+        }
+
+        private void sequentialMerge() {
+            int i = low1;
+            int j = low2;
+            int k = dest;
+
+            while (i <= high1 && j <= high2) {
+                taskMetrics.incrementComparisons();
+                if (source[i] <= source[j]) {
+                    target[k++] = source[i++];
+                } else {
+                    target[k++] = source[j++];
+                }
+                taskMetrics.incrementSwaps();
+            }
+
+            while (i <= high1) {
+                target[k++] = source[i++];
+                taskMetrics.incrementSwaps();
+            }
+
+            while (j <= high2) {
+                target[k++] = source[j++];
+                taskMetrics.incrementSwaps();
+            }
+        }
+
+        // First index in [from, to) whose value is >= key
+        private int lowerBound(int[] array, int from, int to, int key) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                taskMetrics.incrementComparisons();
+                if (array[mid] < key) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+
+        // First index in [from, to) whose value is > key
+        private int upperBound(int[] array, int from, int to, int key) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                taskMetrics.incrementComparisons();
+                if (array[mid] <= key) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelQuickSort {
+    private static final int DEFAULT_CUTOFF = 1 << 13;
+
+    private final MetricsCollector metrics;
+    private final ForkJoinPool pool;
+    private final boolean seeded;
+    private final long seed;
+    private final int cutoff;
+
+    public ParallelQuickSort(MetricsCollector metrics) {
+        this(metrics, ForkJoinPool.commonPool());
+    }
+
+    public ParallelQuickSort(MetricsCollector metrics, long seed) {
+        this(metrics, seed, ForkJoinPool.commonPool());
+    }
+
+    public ParallelQuickSort(MetricsCollector metrics, ForkJoinPool pool) {
+        this(metrics, false, 0, pool, DEFAULT_CUTOFF);
+    }
+
+    public ParallelQuickSort(MetricsCollector metrics, long seed, ForkJoinPool pool) {
+        this(metrics, true, seed, pool, DEFAULT_CUTOFF);
+    }
+
+    public ParallelQuickSort(MetricsCollector metrics, long seed, ForkJoinPool pool, int cutoff) {
+        this(metrics, true, seed, pool, cutoff);
+    }
+
+    private ParallelQuickSort(MetricsCollector metrics, boolean seeded, long seed, ForkJoinPool pool, int cutoff) {
+        if (cutoff < 2) {
+            throw new IllegalArgumentException("Cutoff must be at least 2");
+        }
+        this.metrics = metrics;
+        this.pool = pool;
+        this.seeded = seeded;
+        this.seed = seed;
+        this.cutoff = cutoff;
+    }
+
+    public void sort(int[] array) {
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        // A fresh root generator per call keeps the sorter safe to share between threads; tasks split it
+        // at fixed points so a seeded sort makes the same pivot choices regardless of scheduling
+        SplittableRandom random = seeded ? new SplittableRandom(seed) : new SplittableRandom();
+
+        SortTask root = new SortTask(array, 0, array.length - 1, random, metrics.fork());
+        pool.invoke(root);
+        metrics.merge(root.taskMetrics);
+    }
+
+    private final class SortTask extends RecursiveAction {
+        private final int[] array;
+        private final int low;
+        private final int high;
+        private final SplittableRandom random;
+        private final MetricsCollector taskMetrics;
+
+        SortTask(int[] array, int low, int high, SplittableRandom random, MetricsCollector taskMetrics) {
+            this.array = array;
+            this.low = low;
+            this.high = high;
+            this.random = random;
+            this.taskMetrics = taskMetrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low < cutoff) {
+                if (low < high) {
+                    QuickSort sequential = new QuickSort(taskMetrics, random.nextLong(),
+                        QuickSort.PartitionStrategy.THREE_WAY);
+                    sequential.sortRange(array, low, high);
+                }
+                return;
+            }
+
+            taskMetrics.enterRecursion();
+
+            try {
+                // Dijkstra 3-way partition: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+                swap(low + random.nextInt(high - low + 1), low);
+                int pivot = array[low];
+                int lt = low;
+                int gt = high;
+                int i = low + 1;
+
+                while (i <= gt) {
+                    taskMetrics.incrementComparisons();
+                    if (array[i] < pivot) {
+                        swap(lt++, i++);
+                    } else {
+                        taskMetrics.incrementComparisons();
+                        if (array[i] > pivot) {
+                            swap(i, gt--);
+                        } else {
+                            i++;
+                        }
+                    }
+                }
+
+                SortTask left = new SortTask(array, low, lt - 1, random.split(), taskMetrics.fork());
+                SortTask right = new SortTask(array, gt + 1, high, random.split(), taskMetrics.fork());
+                invokeAll(left, right);
+                taskMetrics.merge(left.taskMetrics);
+                taskMetrics.merge(right.taskMetrics);
+            } finally {
+                taskMetrics.exitRecursion();
+            }
+        }
+
+        private void swap(int i, int j) {
+            if (i != j) {
+                int temp = array[i];
+                array[i] = array[j];
+                array[j] = temp;
+                taskMetrics.incrementSwaps();
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Selection for very large arrays: each round counts every block against a pair of sampled pivots that
+// bracket k, then scatters only the part holding k into a scratch buffer. The input is left untouched.
+public class ParallelSelect {
+    private static final int DEFAULT_CUTOFF = 1 << 16;
+    private static final int MIN_BLOCK_SIZE = 1 << 14;
+    private static final int SAMPLE_SIZE = 1024;
+    private static final int LESS = 0;
+    private static final int BETWEEN = 1;
+    private static final int GREATER = 2;
+
+    private final MetricsCollector metrics;
+    private final ForkJoinPool pool;
+    private final boolean seeded;
+    private final long seed;
+    private final int cutoff;
+
+    public ParallelSelect(MetricsCollector metrics) {
+        this(metrics, ForkJoinPool.commonPool());
+    }
+
+    public ParallelSelect(MetricsCollector metrics, ForkJoinPool pool) {
+        this(metrics, false, 0, pool, DEFAULT_CUTOFF);
+    }
+
+    public ParallelSelect(MetricsCollector metrics, long seed, ForkJoinPool pool) {
+        this(metrics, true, seed, pool, DEFAULT_CUTOFF);
+    }
+
+    public ParallelSelect(MetricsCollector metrics, long seed, ForkJoinPool pool, int cutoff) {
+        this(metrics, true, seed, pool, cutoff);
+    }
+
+    private ParallelSelect(MetricsCollector metrics, boolean seeded, long seed, ForkJoinPool pool, int cutoff) {
+        if (cutoff < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive");
+        }
+        this.metrics = metrics;
+        this.pool = pool;
+        this.seeded = seeded;
+        this.seed = seed;
+        this.cutoff = cutoff;
+    }
+
+    public int select(int[] array, int k) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+        if (k < 0 || k >= array.length) {
+            throw new IllegalArgumentException("k must be between 0 and array.length - 1");
+        }
+
+        SplittableRandom random = seeded ? new SplittableRandom(seed) : new SplittableRandom();
+        int[] source = array;
+        int[] spare = null;
+        int length = array.length;
+        boolean singlePivot = false;
+
+        while (length > cutoff) {
+            int[] sample = sample(source, length, random);
+            int position = (int) ((long) k * sample.length / length);
+            int lo;
+            int hi;
+            if (singlePivot) {
+                lo = hi = sample[position];
+            } else {
+                int delta = (int) Math.sqrt(sample.length);
+                lo = sample[Math.max(0, position - delta)];
+                hi = sample[Math.min(sample.length - 1, position + delta)];
+            }
+
+            int blocks = Math.max(1, Math.min(pool.getParallelism() * 4, length / MIN_BLOCK_SIZE));
+            int[][] counts = new int[blocks][3];
+            int[] from = source;
+            int n = length;
+            forEachBlock(blocks, (block, taskMetrics) -> countBlock(from, blockStart(n, blocks, block),
+                blockStart(n, blocks, block + 1), lo, hi, counts[block], taskMetrics));
+
+            long less = 0;
+            long between = 0;
+            for (int[] count : counts) {
+                less += count[LESS];
+                between += count[BETWEEN];
+            }
+
+            int side;
+            if (k < less) {
+                side = LESS;
+            } else if (k < less + between) {
+                if (lo == hi) {
+                    return lo;
+                }
+                side = BETWEEN;
+                k -= (int) less;
+            } else {
+                side = GREATER;
+                k -= (int) (less + between);
+            }
+
+            int sideSize = 0;
+            for (int[] count : counts) {
+                int blockCount = count[side];
+                count[side] = sideSize;
+                sideSize += blockCount;
+            }
+
+            // The bracket spans every key (few distinct values); pivot on a single key so the next round shrinks
+            if (sideSize == length) {
+                singlePivot = true;
+                continue;
+            }
+            singlePivot = false;
+
+            int[] target = spare;
+            if (target == null || target.length < sideSize) {
+                target = new int[sideSize];
+                metrics.incrementAllocations();
+            }
+            int[] to = target;
+            int chosen = side;
+            forEachBlock(blocks, (block, taskMetrics) -> scatterBlock(from, blockStart(n, blocks, block),
+                blockStart(n, blocks, block + 1), lo, hi, chosen, to, counts[block][chosen], taskMetrics));
+
+            spare = source == array ? null : source;
+            source = target;
+            length = sideSize;
+        }
+
+        int[] rest = Arrays.copyOf(source, length);
+        return new DeterministicSelect(metrics).introSelect(rest, k);
+    }
+
+    private static int[] sample(int[] source, int length, SplittableRandom random) {
+        int[] sample = new int[Math.min(SAMPLE_SIZE, length)];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = source[random.nextInt(length)];
+        }
+        Arrays.sort(sample);
+        return sample;
+    }
+
+    private static void countBlock(int[] source, int start, int end, int lo, int hi, int[] count,
+                                   MetricsCollector taskMetrics) {
+        int less = 0;
+        int greater = 0;
+        for (int i = start; i < end; i++) {
+            int value = source[i];
+            // Branch-free tallies: on random data the outcome is a coin flip the branch predictor cannot learn
+            less += value < lo ? 1 : 0;
+            greater += value > hi ? 1 : 0;
+            taskMetrics.incrementComparisons();
+            taskMetrics.incrementComparisons();
+        }
+        count[LESS] = less;
+        count[BETWEEN] = end - start - less - greater;
+        count[GREATER] = greater;
+    }
+
+    private static void scatterBlock(int[] source, int start, int end, int lo, int hi, int side, int[] target,
+                                     int position, MetricsCollector taskMetrics) {
+        if (side == BETWEEN) {
+            // Shifting the bracket to start at zero turns lo <= value <= hi into one unsigned test, so the only
+            // branch left is whether to keep the value, and that is rarely taken for the bracket around k
+            int width = hi - lo;
+            for (int i = start; i < end; i++) {
+                int value = source[i];
+                taskMetrics.incrementComparisons();
+                if (Integer.compareUnsigned(value - lo, width) <= 0) {
+                    target[position++] = value;
+                }
+            }
+        } else if (side == LESS) {
+            for (int i = start; i < end; i++) {
+                int value = source[i];
+                taskMetrics.incrementComparisons();
+                if (value < lo) {
+                    target[position++] = value;
+                }
+            }
+        } else {
+            for (int i = start; i < end; i++) {
+                int value = source[i];
+                taskMetrics.incrementComparisons();
+                if (value > hi) {
+                    target[position++] = value;
+                }
+            }
+        }
+    }
+
+    private static int blockStart(int n, int blocks, int block) {
+        return (int) ((long) n * block / blocks);
+    }
+
+    private void forEachBlock(int blocks, BlockAction action) {
+        if (blocks == 1) {
+            action.run(0, metrics);
+            return;
+        }
+
+        BlockTask root = new BlockTask(0, blocks, action, metrics.fork());
+        pool.invoke(root);
+        metrics.merge(root.taskMetrics);
+    }
+
+    private interface BlockAction {
+        void run(int block, MetricsCollector taskMetrics);
+    }
+
+    private static final class BlockTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final BlockAction action;
+        private final MetricsCollector taskMetrics;
+
+        BlockTask(int from, int to, BlockAction action, MetricsCollector taskMetrics) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+            this.taskMetrics = taskMetrics;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.run(from, taskMetrics);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            BlockTask left = new BlockTask(from, mid, action, taskMetrics.fork());
+            BlockTask right = new BlockTask(mid, to, action, taskMetrics.fork());
+            invokeAll(left, right);
+            taskMetrics.merge(left.taskMetrics);
+            taskMetrics.merge(right.taskMetrics);
+        }
+    }
+}
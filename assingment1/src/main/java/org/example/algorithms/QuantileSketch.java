@@ -0,0 +1,275 @@
+package org.example.algorithms;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// KLL quantile sketch over int values: bounded memory (about 3k retained items), mergeable, and within
+// getNormalizedRankError() in rank for any single query with at least 99% probability. Not thread-safe;
+// see ShardedQuantileSketch.
+public class QuantileSketch {
+    static final int DEFAULT_K = 200;
+    static final int MIN_K = 8;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final double FAILURE_PROBABILITY = 0.01;
+
+    private final int k;
+    private final SplittableRandom random;
+    private int[][] levels;
+    private int[] sizes;
+    private int numLevels;
+    // Compaction threshold per level, rebuilt whenever numLevels changes so updates never call Math.pow
+    private int[] capacities;
+    private long count;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+    // Sum of squared item weights over every compaction this sketch (or anything merged into it) has done
+    private double compactionVariance;
+
+    private int[] sortedValues;
+    private long[] cumulativeWeights;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    public QuantileSketch(int k) {
+        this(k, new SplittableRandom());
+    }
+
+    public QuantileSketch(int k, long seed) {
+        this(k, new SplittableRandom(seed));
+    }
+
+    private QuantileSketch(int k, SplittableRandom random) {
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("k must be at least " + MIN_K);
+        }
+        this.k = k;
+        this.random = random;
+        this.levels = new int[][]{new int[k]};
+        this.sizes = new int[1];
+        this.numLevels = 1;
+        updateCapacities();
+    }
+
+    public void update(int value) {
+        push(0, value);
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        sortedValues = null;
+        compress();
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (other == this) {
+            other = copy();
+        }
+
+        while (numLevels < other.numLevels) {
+            addLevel();
+        }
+        for (int level = 0; level < other.numLevels; level++) {
+            for (int i = 0; i < other.sizes[level]; i++) {
+                push(level, other.levels[level][i]);
+            }
+        }
+
+        count += other.count;
+        compactionVariance += other.compactionVariance;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        sortedValues = null;
+        compress();
+    }
+
+    public QuantileSketch copy() {
+        QuantileSketch copy = new QuantileSketch(k, random.split());
+        copy.levels = new int[levels.length][];
+        for (int level = 0; level < numLevels; level++) {
+            copy.levels[level] = levels[level].clone();
+        }
+        copy.sizes = sizes.clone();
+        copy.numLevels = numLevels;
+        copy.capacities = capacities.clone();
+        copy.count = count;
+        copy.compactionVariance = compactionVariance;
+        copy.min = min;
+        copy.max = max;
+        return copy;
+    }
+
+    // Nearest-rank quantile for a fraction in [0, 1], matching DeterministicSelect.percentiles
+    public int quantile(double fraction) {
+        if (!(fraction >= 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("Quantile fraction must be between 0 and 1");
+        }
+        if (count == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+        if (fraction == 0) {
+            return min;
+        }
+        if (fraction == 1) {
+            return max;
+        }
+
+        buildSortedView();
+        long targetWeight = Math.max(1, (long) Math.ceil(fraction * count - 1e-9));
+        int index = Arrays.binarySearch(cumulativeWeights, targetWeight);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return sortedValues[Math.min(index, sortedValues.length - 1)];
+    }
+
+    public int[] percentiles(double... percentiles) {
+        int[] values = new int[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (!(percentiles[i] >= 0 && percentiles[i] <= 100)) {
+                throw new IllegalArgumentException("Percentiles must be between 0 and 100");
+            }
+            values[i] = quantile(percentiles[i] / 100.0);
+        }
+        return values;
+    }
+
+    // Approximate fraction of the stream that is <= value
+    public double rank(int value) {
+        if (count == 0) {
+            throw new IllegalStateException("Sketch is empty");
+        }
+
+        long weight = 0;
+        for (int level = 0; level < numLevels; level++) {
+            for (int i = 0; i < sizes[level]; i++) {
+                if (levels[level][i] <= value) {
+                    weight += 1L << level;
+                }
+            }
+        }
+        return (double) weight / count;
+    }
+
+    // Rank error, as a fraction of the count, that a single query stays within with at least 99% probability.
+    // A compaction at level h moves the weighted rank of any fixed value by +2^h or -2^h with even odds, or
+    // not at all, and how many compactions run depends only on the stream length, so Azuma-Hoeffding over
+    // them gives t = sqrt(2 ln(2 / delta) * sum of 4^h). Zero until the first compaction, when ranks are exact
+    public double getNormalizedRankError() {
+        if (count == 0) {
+            return 0;
+        }
+        return Math.sqrt(2 * Math.log(2 / FAILURE_PROBABILITY) * compactionVariance) / count;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public int getRetainedItems() {
+        int retained = 0;
+        for (int level = 0; level < numLevels; level++) {
+            retained += sizes[level];
+        }
+        return retained;
+    }
+
+    // The top level holds k items and each level below it two thirds of the one above
+    private void updateCapacities() {
+        capacities = new int[numLevels];
+        for (int level = 0; level < numLevels; level++) {
+            int depth = numLevels - 1 - level;
+            capacities[level] = Math.max(2, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+        }
+    }
+
+    private void push(int level, int value) {
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], Math.max(4, levels[level].length * 2));
+        }
+        levels[level][sizes[level]++] = value;
+    }
+
+    private void addLevel() {
+        if (numLevels == levels.length) {
+            levels = Arrays.copyOf(levels, numLevels * 2);
+            sizes = Arrays.copyOf(sizes, numLevels * 2);
+        }
+        levels[numLevels] = new int[4];
+        sizes[numLevels] = 0;
+        numLevels++;
+        updateCapacities();
+    }
+
+    private void compress() {
+        boolean compacted = true;
+        while (compacted) {
+            compacted = false;
+            for (int level = 0; level < numLevels; level++) {
+                if (sizes[level] >= capacities[level]) {
+                    compact(level);
+                    compacted = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    // Sorts a level and promotes every other item (random parity) with doubled weight
+    private void compact(int level) {
+        if (level + 1 == numLevels) {
+            addLevel();
+        }
+
+        int[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+
+        int pairs = size / 2;
+        int offset = random.nextBoolean() ? 1 : 0;
+        compactionVariance += Math.scalb(1.0, 2 * level);
+        for (int i = 0; i < pairs; i++) {
+            push(level + 1, items[2 * i + offset]);
+        }
+
+        if (size % 2 == 1) {
+            items[0] = items[size - 1];
+            sizes[level] = 1;
+        } else {
+            sizes[level] = 0;
+        }
+    }
+
+    private void buildSortedView() {
+        if (sortedValues != null) {
+            return;
+        }
+
+        int retained = getRetainedItems();
+        long[] packed = new long[retained];
+        int n = 0;
+        for (int level = 0; level < numLevels; level++) {
+            for (int i = 0; i < sizes[level]; i++) {
+                // Value in the high half keeps signed order; the level (weight exponent) rides in the low half
+                packed[n++] = ((long) levels[level][i] << 32) | level;
+            }
+        }
+        Arrays.sort(packed);
+
+        sortedValues = new int[retained];
+        cumulativeWeights = new long[retained];
+        long cumulative = 0;
+        for (int i = 0; i < retained; i++) {
+            sortedValues[i] = (int) (packed[i] >>> 32);
+            cumulative += 1L << (int) (packed[i] & 0xFFFFFFFFL);
+            cumulativeWeights[i] = cumulative;
+        }
+    }
+}
@@ -1,27 +1,134 @@
 package org.example.algorithms;
 
 import org.example.metrics.MetricsCollector;
+import org.example.utils.ArrayUtils;
 import java.util.Random;
 
 public class QuickSort {
+    public enum PartitionStrategy {
+        LOMUTO,
+        THREE_WAY,
+        DUAL_PIVOT
+    }
+
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
     private final MetricsCollector metrics;
     private final Random random;
+    private final PartitionStrategy strategy;
 
     public QuickSort(MetricsCollector metrics) {
+        this(metrics, PartitionStrategy.LOMUTO);
+    }
+
+    public QuickSort(MetricsCollector metrics, long seed) {
+        this(metrics, seed, PartitionStrategy.LOMUTO);
+    }
+
+    public QuickSort(MetricsCollector metrics, PartitionStrategy strategy) {
         this.metrics = metrics;
         this.random = new Random();
+        this.strategy = strategy;
     }
 
-    public QuickSort(MetricsCollector metrics, long seed) {
+    public QuickSort(MetricsCollector metrics, long seed, PartitionStrategy strategy) {
         this.metrics = metrics;
         this.random = new Random(seed);
+        this.strategy = strategy;
     }
 
     public void sort(int[] array) {
         if (array == null || array.length <= 1) {
             return;
         }
-        quickSort(array, 0, array.length - 1);
+
+        sortRange(array, 0, array.length - 1);
+    }
+
+    void sortRange(int[] array, int low, int high) {
+        switch (strategy) {
+            case LOMUTO -> quickSort(array, low, high);
+            case THREE_WAY -> quickSortThreeWay(array, low, high);
+            case DUAL_PIVOT -> quickSortDualPivot(array, low, high);
+        }
+    }
+
+    public void introSort(int[] array) {
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        int depthBudget = 2 * (31 - Integer.numberOfLeadingZeros(array.length));
+        introSort(array, 0, array.length - 1, depthBudget);
+    }
+
+    private void introSort(int[] array, int low, int high, int depthBudget) {
+        while (high - low >= INSERTION_SORT_CUTOFF) {
+            if (depthBudget == 0) {
+                metrics.incrementFallbacks();
+                heapSort(array, low, high);
+                return;
+            }
+            depthBudget--;
+
+            metrics.enterRecursion();
+
+            try {
+                int pivotIndex = randomizedPartition(array, low, high);
+
+                if (pivotIndex - low <= high - pivotIndex) {
+                    introSort(array, low, pivotIndex - 1, depthBudget);
+                    low = pivotIndex + 1;
+                } else {
+                    introSort(array, pivotIndex + 1, high, depthBudget);
+                    high = pivotIndex - 1;
+                }
+            } finally {
+                metrics.exitRecursion();
+            }
+        }
+
+        ArrayUtils.insertionSort(array, low, high, metrics);
+    }
+
+    private void heapSort(int[] array, int low, int high) {
+        int n = high - low + 1;
+
+        for (int i = n / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, n);
+        }
+
+        for (int end = n - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end);
+        }
+    }
+
+    private void siftDown(int[] array, int offset, int root, int size) {
+        while (true) {
+            int largest = root;
+            int left = 2 * root + 1;
+            int right = left + 1;
+
+            if (left < size) {
+                metrics.incrementComparisons();
+                if (array[offset + left] > array[offset + largest]) {
+                    largest = left;
+                }
+            }
+            if (right < size) {
+                metrics.incrementComparisons();
+                if (array[offset + right] > array[offset + largest]) {
+                    largest = right;
+                }
+            }
+            if (largest == root) {
+                return;
+            }
+
+            swap(array, offset + root, offset + largest);
+            root = largest;
+        }
     }
 
     private void quickSort(int[] array, int low, int high) {
@@ -47,6 +154,123 @@ public class QuickSort {
         }
     }
 
+    // Dijkstra 3-way partition: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+    private void quickSortThreeWay(int[] array, int low, int high) {
+        while (low < high) {
+            metrics.enterRecursion();
+
+            try {
+                swap(array, low + random.nextInt(high - low + 1), low);
+                int pivot = array[low];
+                int lt = low;
+                int gt = high;
+                int i = low + 1;
+
+                while (i <= gt) {
+                    metrics.incrementComparisons();
+                    if (array[i] < pivot) {
+                        swap(array, lt++, i++);
+                    } else {
+                        metrics.incrementComparisons();
+                        if (array[i] > pivot) {
+                            swap(array, i, gt--);
+                        } else {
+                            i++;
+                        }
+                    }
+                }
+
+                // Equal keys are already in their final place and are never touched again
+                if (lt - low <= high - gt) {
+                    quickSortThreeWay(array, low, lt - 1);
+                    low = gt + 1;
+                } else {
+                    quickSortThreeWay(array, gt + 1, high);
+                    high = lt - 1;
+                }
+            } finally {
+                metrics.exitRecursion();
+            }
+        }
+    }
+
+    // Yaroslavskiy dual-pivot partition: [low, lt) < p, [lt, gt] in [p, q], (gt, high] > q
+    private void quickSortDualPivot(int[] array, int low, int high) {
+        while (low < high) {
+            metrics.enterRecursion();
+
+            try {
+                swap(array, low + random.nextInt(high - low + 1), low);
+                swap(array, low + 1 + random.nextInt(high - low), high);
+
+                metrics.incrementComparisons();
+                if (array[low] > array[high]) {
+                    swap(array, low, high);
+                }
+
+                int p = array[low];
+                int q = array[high];
+                int lt = low + 1;
+                int gt = high - 1;
+                int i = low + 1;
+
+                while (i <= gt) {
+                    metrics.incrementComparisons();
+                    if (array[i] < p) {
+                        swap(array, i, lt++);
+                    } else {
+                        metrics.incrementComparisons();
+                        if (array[i] > q) {
+                            while (i < gt && array[gt] > q) {
+                                metrics.incrementComparisons();
+                                gt--;
+                            }
+                            swap(array, i, gt--);
+
+                            metrics.incrementComparisons();
+                            if (array[i] < p) {
+                                swap(array, i, lt++);
+                            }
+                        }
+                    }
+                    i++;
+                }
+
+                lt--;
+                gt++;
+                swap(array, low, lt);
+                swap(array, high, gt);
+
+                // With equal pivots every middle element equals p and is already in place
+                boolean sortMiddle = p < q;
+                int leftSize = lt - low;
+                int middleSize = sortMiddle ? gt - lt - 1 : 0;
+                int rightSize = high - gt;
+
+                if (leftSize >= middleSize && leftSize >= rightSize) {
+                    if (sortMiddle) {
+                        quickSortDualPivot(array, lt + 1, gt - 1);
+                    }
+                    quickSortDualPivot(array, gt + 1, high);
+                    high = lt - 1;
+                } else if (rightSize >= middleSize) {
+                    quickSortDualPivot(array, low, lt - 1);
+                    if (sortMiddle) {
+                        quickSortDualPivot(array, lt + 1, gt - 1);
+                    }
+                    low = gt + 1;
+                } else {
+                    quickSortDualPivot(array, low, lt - 1);
+                    quickSortDualPivot(array, gt + 1, high);
+                    low = lt + 1;
+                    high = gt - 1;
+                }
+            } finally {
+                metrics.exitRecursion();
+            }
+        }
+    }
+
     private int randomizedPartition(int[] array, int low, int high) {
         int randomIndex = low + random.nextInt(high - low + 1);
         swap(array, randomIndex, high);
@@ -77,4 +301,4 @@ public class QuickSort {
             metrics.incrementSwaps();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,151 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+public class RadixSort {
+    private static final int DIGIT_BITS = 11;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int MASK = RADIX - 1;
+    private static final int PASSES = 3;
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+
+    private final MetricsCollector metrics;
+    private final ForkJoinPool pool;
+
+    public RadixSort(MetricsCollector metrics) {
+        this(metrics, ForkJoinPool.commonPool());
+    }
+
+    public RadixSort(MetricsCollector metrics, ForkJoinPool pool) {
+        this.metrics = metrics;
+        this.pool = pool;
+    }
+
+    public void sort(int[] array) {
+        if (array == null || array.length <= 1) {
+            return;
+        }
+
+        sort(array, array.length, new int[array.length]);
+    }
+
+    // Sorts array[0, length) using a caller-owned scratch buffer of at least length ints, so a caller that
+    // sorts many chunks can reuse one buffer instead of allocating a new one per call
+    public void sort(int[] array, int length, int[] buffer) {
+        if (array == null || buffer == null) {
+            throw new IllegalArgumentException("Array and buffer must not be null");
+        }
+        if (length < 0 || length > array.length || length > buffer.length) {
+            throw new IllegalArgumentException("Length must fit in both the array and the buffer");
+        }
+        if (length <= 1) {
+            return;
+        }
+
+        int n = length;
+        int chunks = n < PARALLEL_THRESHOLD ? 1 : Math.min(pool.getParallelism() * 4, n / MIN_CHUNK_SIZE);
+
+        int[][] counts = new int[chunks][RADIX];
+        metrics.incrementAllocations();
+
+        int[] source = array;
+        int[] target = buffer;
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            int shift = pass * DIGIT_BITS;
+            int[] from = source;
+            int[] to = target;
+
+            forEachChunk(chunks, chunk -> {
+                int[] histogram = counts[chunk];
+                Arrays.fill(histogram, 0);
+                int end = chunkStart(n, chunks, chunk + 1);
+                for (int i = chunkStart(n, chunks, chunk); i < end; i++) {
+                    histogram[digit(from[i], shift)]++;
+                }
+            });
+
+            // Turn per-chunk counts into per-chunk write offsets, bucket-major so the scatter stays stable
+            int offset = 0;
+            boolean trivialPass = false;
+            for (int bucket = 0; bucket < RADIX && !trivialPass; bucket++) {
+                int bucketStart = offset;
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    int count = counts[chunk][bucket];
+                    counts[chunk][bucket] = offset;
+                    offset += count;
+                }
+                trivialPass = offset - bucketStart == n;
+            }
+
+            // Every key shares this digit, so the pass would only copy
+            if (trivialPass) {
+                continue;
+            }
+
+            forEachChunk(chunks, chunk -> {
+                int[] positions = counts[chunk];
+                int end = chunkStart(n, chunks, chunk + 1);
+                for (int i = chunkStart(n, chunks, chunk); i < end; i++) {
+                    int value = from[i];
+                    to[positions[digit(value, shift)]++] = value;
+                }
+            });
+
+            // Every key moves once per scatter; counting the moves as swaps makes skipped passes visible
+            metrics.incrementSwaps(n);
+            source = to;
+            target = from;
+        }
+
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, n);
+        }
+    }
+
+    // Flipping the sign bit maps signed order onto unsigned digit order
+    private static int digit(int value, int shift) {
+        return ((value ^ Integer.MIN_VALUE) >>> shift) & MASK;
+    }
+
+    private static int chunkStart(int n, int chunks, int chunk) {
+        return (int) ((long) n * chunk / chunks);
+    }
+
+    private void forEachChunk(int chunks, IntConsumer action) {
+        if (chunks == 1) {
+            action.accept(0);
+        } else {
+            pool.invoke(new ChunkTask(0, chunks, action));
+        }
+    }
+
+    private static final class ChunkTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        ChunkTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, mid, action), new ChunkTask(mid, to, action));
+        }
+    }
+}
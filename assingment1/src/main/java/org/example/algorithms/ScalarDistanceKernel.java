@@ -0,0 +1,24 @@
+package org.example.algorithms;
+
+final class ScalarDistanceKernel implements DistanceKernel {
+    static final ScalarDistanceKernel INSTANCE = new ScalarDistanceKernel();
+
+    private ScalarDistanceKernel() {
+    }
+
+    @Override
+    public int nearest(double[] xs, double[] ys, double x, double y, int from, int to) {
+        int best = -1;
+        double bestSquared = Double.POSITIVE_INFINITY;
+        for (int j = from; j < to; j++) {
+            double dx = xs[j] - x;
+            double dy = ys[j] - y;
+            double squared = dx * dx + dy * dy;
+            if (squared < bestSquared || best < 0) {
+                bestSquared = squared;
+                best = j;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.algorithms;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Each thread updates its own QuantileSketch without synchronization and periodically publishes an
+// immutable copy through a volatile field; snapshot() merges the published copies. A snapshot can miss
+// up to publishInterval - 1 recent updates per thread until that thread calls flush().
+public class ShardedQuantileSketch {
+    private static final int DEFAULT_PUBLISH_INTERVAL = 4096;
+
+    private final int k;
+    private final int publishInterval;
+    private final Queue<Shard> shards = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Shard> localShard;
+
+    public ShardedQuantileSketch() {
+        this(QuantileSketch.DEFAULT_K);
+    }
+
+    public ShardedQuantileSketch(int k) {
+        this(k, DEFAULT_PUBLISH_INTERVAL);
+    }
+
+    public ShardedQuantileSketch(int k, int publishInterval) {
+        if (k < QuantileSketch.MIN_K) {
+            throw new IllegalArgumentException("k must be at least " + QuantileSketch.MIN_K);
+        }
+        if (publishInterval < 1) {
+            throw new IllegalArgumentException("Publish interval must be positive");
+        }
+        this.k = k;
+        this.publishInterval = publishInterval;
+        this.localShard = ThreadLocal.withInitial(() -> {
+            Shard shard = new Shard(new QuantileSketch(k));
+            shards.add(shard);
+            return shard;
+        });
+    }
+
+    public void update(int value) {
+        localShard.get().update(value);
+    }
+
+    // Publishes the calling thread's pending updates
+    public void flush() {
+        localShard.get().publish();
+    }
+
+    public QuantileSketch snapshot() {
+        QuantileSketch merged = new QuantileSketch(k);
+        for (Shard shard : shards) {
+            QuantileSketch published = shard.published;
+            if (published != null) {
+                merged.merge(published);
+            }
+        }
+        return merged;
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    private final class Shard {
+        private final QuantileSketch sketch;
+        private volatile QuantileSketch published;
+        private int pending;
+
+        Shard(QuantileSketch sketch) {
+            this.sketch = sketch;
+        }
+
+        void update(int value) {
+            sketch.update(value);
+            if (++pending >= publishInterval) {
+                publish();
+            }
+        }
+
+        void publish() {
+            published = sketch.copy();
+            pending = 0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.algorithms;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Evaluates one squared distance per lane and keeps a running per-lane minimum and its index; the lanes are
+// reduced once at the end and the leftover tail is scanned one by one. Squares are summed without fma so
+// every distance is bit-identical to the scalar one
+final class VectorDistanceKernel implements DistanceKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> INDEX_SPECIES = VectorSpecies.of(long.class, SPECIES.vectorShape());
+
+    @Override
+    public int nearest(double[] xs, double[] ys, double x, double y, int from, int to) {
+        int lanes = SPECIES.length();
+        // Below two full vectors the broadcasts and the final reduction cost more than they save
+        if (to - from < 2 * lanes) {
+            return ScalarDistanceKernel.INSTANCE.nearest(xs, ys, x, y, from, to);
+        }
+        int bound = from + SPECIES.loopBound(to - from);
+
+        DoubleVector queryX = DoubleVector.broadcast(SPECIES, x);
+        DoubleVector queryY = DoubleVector.broadcast(SPECIES, y);
+        DoubleVector minSquared = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+        LongVector minIndex = LongVector.broadcast(INDEX_SPECIES, from);
+        LongVector index = LongVector.zero(INDEX_SPECIES).addIndex(1).add(from);
+
+        for (int j = from; j < bound; j += lanes) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, xs, j).sub(queryX);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, ys, j).sub(queryY);
+            DoubleVector squared = dx.mul(dx).add(dy.mul(dy));
+            VectorMask<Double> closer = squared.lt(minSquared);
+            minSquared = minSquared.blend(squared, closer);
+            minIndex = minIndex.blend(index, closer.cast(INDEX_SPECIES));
+            index = index.add(lanes);
+        }
+
+        // Lowest index among the lanes holding the minimum
+        double bestSquared = minSquared.reduceLanes(VectorOperators.MIN);
+        VectorMask<Long> atMinimum = minSquared.eq(bestSquared).cast(INDEX_SPECIES);
+        int best = (int) minIndex.reduceLanes(VectorOperators.MIN, atMinimum);
+
+        for (int j = bound; j < to; j++) {
+            double dx = xs[j] - x;
+            double dy = ys[j] - y;
+            double squared = dx * dx + dy * dy;
+            if (squared < bestSquared) {
+                bestSquared = squared;
+                best = j;
+            }
+        }
+        return best;
+    }
+}
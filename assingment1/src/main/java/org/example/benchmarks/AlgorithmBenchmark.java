@@ -9,6 +9,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 
 @BenchmarkMode(Mode.AverageTime)
@@ -26,6 +27,44 @@ public class AlgorithmBenchmark {
     private int[] sortedArray;
     private int[] reverseArray;
     private Point[] randomPoints;
+    private double[] pointXs;
+    private double[] pointYs;
+
+    @State(Scope.Benchmark)
+    public static class ParallelState {
+        @Param({"1", "2", "4", "8", "16"})
+        public int threads;
+
+        @Param({"1000000"})
+        public int parallelSize;
+
+        public ForkJoinPool pool;
+        public int[] randomArray;
+        public double[] pointXs;
+        public double[] pointYs;
+
+        @Setup
+        public void setup() {
+            pool = new ForkJoinPool(threads);
+            Random random = new Random(42);
+            randomArray = new int[parallelSize];
+            for (int i = 0; i < parallelSize; i++) {
+                randomArray[i] = random.nextInt();
+            }
+
+            pointXs = new double[parallelSize];
+            pointYs = new double[parallelSize];
+            for (int i = 0; i < parallelSize; i++) {
+                pointXs[i] = random.nextDouble() * 1000;
+                pointYs[i] = random.nextDouble() * 1000;
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
 
     @Setup
     public void setup() {
@@ -35,12 +74,16 @@ public class AlgorithmBenchmark {
         sortedArray = new int[size];
         reverseArray = new int[size];
         randomPoints = new Point[size];
+        pointXs = new double[size];
+        pointYs = new double[size];
 
         for (int i = 0; i < size; i++) {
             randomArray[i] = random.nextInt(size * 10);
             sortedArray[i] = i;
             reverseArray[i] = size - i;
             randomPoints[i] = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+            pointXs[i] = randomPoints[i].x;
+            pointYs[i] = randomPoints[i].y;
         }
     }
 
@@ -58,6 +101,13 @@ public class AlgorithmBenchmark {
         sorter.sort(sortedArray.clone());
     }
 
+    @Benchmark
+    public void parallelMergeSortScaling(ParallelState state) {
+        MetricsCollector metrics = new MetricsCollector();
+        ParallelMergeSort sorter = new ParallelMergeSort(metrics, state.pool);
+        sorter.sort(state.randomArray.clone());
+    }
+
     @Benchmark
     public void quickSortRandom() {
         MetricsCollector metrics = new MetricsCollector();
@@ -93,6 +143,27 @@ public class AlgorithmBenchmark {
         finder.findClosestPair(randomPoints.clone());
     }
 
+    @Benchmark
+    public ClosestPair.IndexPair closestPairStructOfArrays() {
+        MetricsCollector metrics = new MetricsCollector();
+        ClosestPair finder = new ClosestPair(metrics);
+        return finder.findClosestPair(pointXs, pointYs);
+    }
+
+    @Benchmark
+    public ClosestPair.IndexPair closestPairParallelScaling(ParallelState state) {
+        MetricsCollector metrics = new MetricsCollector();
+        ParallelClosestPair finder = new ParallelClosestPair(metrics, state.pool);
+        return finder.findClosestPair(state.pointXs, state.pointYs);
+    }
+
+    @Benchmark
+    public ClosestPair.PointPair closestPairGrid() {
+        MetricsCollector metrics = new MetricsCollector();
+        GridClosestPair finder = new GridClosestPair(metrics, 42);
+        return finder.findClosestPair(randomPoints);
+    }
+
     @Benchmark
     public void closestPairBruteForce() {
         if (size <= 2000) { // Only run brute force for smaller sizes
@@ -107,6 +178,56 @@ public class AlgorithmBenchmark {
         Arrays.sort(randomArray.clone());
     }
 
+    @Benchmark
+    public void javaArraysParallelSort() {
+        Arrays.parallelSort(randomArray.clone());
+    }
+
+    @Benchmark
+    public void radixSortRandom() {
+        MetricsCollector metrics = new MetricsCollector();
+        RadixSort sorter = new RadixSort(metrics);
+        sorter.sort(randomArray.clone());
+    }
+
+    @Benchmark
+    public void radixSortScaling(ParallelState state) {
+        MetricsCollector metrics = new MetricsCollector();
+        RadixSort sorter = new RadixSort(metrics, state.pool);
+        sorter.sort(state.randomArray.clone());
+    }
+
+    @Benchmark
+    public void parallelQuickSortRandom() {
+        MetricsCollector metrics = new MetricsCollector();
+        ParallelQuickSort sorter = new ParallelQuickSort(metrics, 42);
+        sorter.sort(randomArray.clone());
+    }
+
+    @Benchmark
+    public void parallelQuickSortScaling(ParallelState state) {
+        MetricsCollector metrics = new MetricsCollector();
+        ParallelQuickSort sorter = new ParallelQuickSort(metrics, 42, state.pool);
+        sorter.sort(state.randomArray.clone());
+    }
+
+    @Benchmark
+    public int parallelSelectScaling(ParallelState state) {
+        MetricsCollector metrics = new MetricsCollector();
+        ParallelSelect selector = new ParallelSelect(metrics, 42, state.pool);
+        return selector.select(state.randomArray, state.parallelSize / 2);
+    }
+
+    @Benchmark
+    public void javaArraysSortLarge(ParallelState state) {
+        Arrays.sort(state.randomArray.clone());
+    }
+
+    @Benchmark
+    public void javaArraysParallelSortLarge(ParallelState state) {
+        Arrays.parallelSort(state.randomArray.clone());
+    }
+
     public static void main(String[] args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(AlgorithmBenchmark.class.getSimpleName())
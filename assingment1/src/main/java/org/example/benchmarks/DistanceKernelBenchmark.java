@@ -0,0 +1,71 @@
+package org.example.benchmarks;
+
+import org.example.algorithms.ClosestPair;
+import org.example.algorithms.DistanceKernel;
+import org.example.algorithms.Point;
+import org.example.metrics.MetricsCollector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// The forked JVM resolves the incubator module, so "vector" runs the SIMD kernel; without the module both
+// settings measure the scalar loop
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector"})
+public class DistanceKernelBenchmark {
+
+    @Param({"scalar", "vector"})
+    private String kernel;
+
+    // Small sizes sit below the vector kernel's scalar cutoff, large ones show the brute-force gain
+    @Param({"8", "16", "32", "64", "1000", "10000"})
+    private int size;
+
+    private Point[] points;
+    private double[] xs;
+    private double[] ys;
+    private DistanceKernel distanceKernel;
+    private ClosestPair closestPair;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        points = new Point[size];
+        xs = new double[size];
+        ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+        }
+
+        distanceKernel = kernel.equals("vector") ? DistanceKernel.preferred() : DistanceKernel.scalar();
+        closestPair = new ClosestPair(MetricsCollector.noOp(), distanceKernel);
+    }
+
+    @Benchmark
+    public int nearestScan() {
+        return distanceKernel.nearest(xs, ys, 500, 500, 0, size);
+    }
+
+    @Benchmark
+    public ClosestPair.PointPair bruteForce() {
+        return closestPair.bruteForceClosestPair(points);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(DistanceKernelBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.benchmarks;
+
+import org.example.algorithms.ClosestPair;
+import org.example.algorithms.DynamicClosestPair;
+import org.example.algorithms.Point;
+import org.example.metrics.MetricsCollector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Each invocation replays one update from a recorded stream: a point moves to a new position and the
+// closest pair is read back, either from the dynamic structure or by recomputing from scratch
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DynamicClosestPairBenchmark {
+    private static final int STREAM_LENGTH = 1 << 16;
+    private static final double EXTENT = 1_000_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private Point[] current;
+    private int[] movedIndices;
+    private Point[] movedTo;
+    private int next;
+    private DynamicClosestPair dynamic;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        current = new Point[size];
+        for (int i = 0; i < size; i++) {
+            current[i] = new Point(random.nextDouble() * EXTENT, random.nextDouble() * EXTENT);
+        }
+
+        movedIndices = new int[STREAM_LENGTH];
+        movedTo = new Point[STREAM_LENGTH];
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            movedIndices[i] = random.nextInt(size);
+            movedTo[i] = new Point(random.nextDouble() * EXTENT, random.nextDouble() * EXTENT);
+        }
+
+        dynamic = new DynamicClosestPair(current, new MetricsCollector());
+    }
+
+    @Benchmark
+    public ClosestPair.PointPair dynamicUpdate() {
+        int step = next++ & (STREAM_LENGTH - 1);
+        int index = movedIndices[step];
+        dynamic.remove(current[index]);
+        current[index] = movedTo[step];
+        dynamic.insert(current[index]);
+        return dynamic.closest();
+    }
+
+    @Benchmark
+    public ClosestPair.PointPair fullRecomputation() {
+        int step = next++ & (STREAM_LENGTH - 1);
+        current[movedIndices[step]] = movedTo[step];
+        return new ClosestPair(new MetricsCollector()).findClosestPair(current);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(DynamicClosestPairBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.benchmarks;
+
+import org.example.algorithms.*;
+import org.example.metrics.MetricsCollector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class InstrumentationBenchmark {
+
+    @Param({"10000"})
+    private int size;
+
+    @Param({"counting", "sampled", "noop"})
+    private String instrumentation;
+
+    private int[] randomArray;
+    private Point[] randomPoints;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+
+        randomArray = new int[size];
+        randomPoints = new Point[size];
+
+        for (int i = 0; i < size; i++) {
+            randomArray[i] = random.nextInt(size * 10);
+            randomPoints[i] = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+    }
+
+    private MetricsCollector newCollector() {
+        return switch (instrumentation) {
+            case "sampled" -> MetricsCollector.sampled(64);
+            case "noop" -> MetricsCollector.noOp();
+            default -> new MetricsCollector();
+        };
+    }
+
+    @Benchmark
+    public int[] mergeSort() {
+        int[] array = randomArray.clone();
+        new MergeSort(newCollector()).sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] parallelMergeSort() {
+        int[] array = randomArray.clone();
+        new ParallelMergeSort(newCollector()).sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int[] quickSort() {
+        int[] array = randomArray.clone();
+        new QuickSort(newCollector(), 42).sort(array);
+        return array;
+    }
+
+    @Benchmark
+    public int deterministicSelect() {
+        return new DeterministicSelect(newCollector()).select(randomArray.clone(), size / 2);
+    }
+
+    @Benchmark
+    public int quickSelect() {
+        return new DeterministicSelect(newCollector()).quickSelect(randomArray.clone(), size / 2);
+    }
+
+    @Benchmark
+    public ClosestPair.PointPair closestPairDivideConquer() {
+        return new ClosestPair(newCollector()).findClosestPair(randomPoints);
+    }
+
+    @Benchmark
+    public ClosestPair.PointPair closestPairBruteForce() {
+        return new ClosestPair(newCollector()).bruteForceClosestPair(randomPoints);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(InstrumentationBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.benchmarks;
+
+import org.example.algorithms.DeterministicSelect;
+import org.example.algorithms.ParallelSelect;
+import org.example.metrics.MetricsCollector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class SelectionBenchmark {
+
+    @Param({"1000000", "10000000", "100000000"})
+    private int size;
+
+    @Param({"0.5", "0.999"})
+    private double quantile;
+
+    private int[] source;
+    private int[] working;
+    private int k;
+
+    // Reported next to the timings so engines can be compared by comparison count as well
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Comparisons {
+        public long comparisons;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        source = new int[size];
+        working = new int[size];
+        for (int i = 0; i < size; i++) {
+            source[i] = random.nextInt();
+        }
+        k = (int) Math.min(size - 1, (long) (quantile * size));
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        System.arraycopy(source, 0, working, 0, size);
+    }
+
+    @Benchmark
+    public int medianOfMedians(Comparisons counters) {
+        MetricsCollector metrics = new MetricsCollector();
+        int result = new DeterministicSelect(metrics).select(working, k);
+        counters.comparisons += metrics.getComparisons();
+        return result;
+    }
+
+    @Benchmark
+    public int medianOfMediansInPlace(Comparisons counters) {
+        MetricsCollector metrics = new MetricsCollector();
+        int result = new DeterministicSelect(metrics).selectInPlace(working, k);
+        counters.comparisons += metrics.getComparisons();
+        return result;
+    }
+
+    @Benchmark
+    public int quickSelect(Comparisons counters) {
+        MetricsCollector metrics = new MetricsCollector();
+        int result = new DeterministicSelect(metrics).quickSelect(working, k);
+        counters.comparisons += metrics.getComparisons();
+        return result;
+    }
+
+    @Benchmark
+    public int introSelect(Comparisons counters) {
+        MetricsCollector metrics = new MetricsCollector();
+        int result = new DeterministicSelect(metrics).introSelect(working, k);
+        counters.comparisons += metrics.getComparisons();
+        return result;
+    }
+
+    @Benchmark
+    public int floydRivest(Comparisons counters) {
+        MetricsCollector metrics = new MetricsCollector();
+        int result = new DeterministicSelect(metrics).floydRivestSelect(working, k);
+        counters.comparisons += metrics.getComparisons();
+        return result;
+    }
+
+    @Benchmark
+    public int parallel(Comparisons counters) {
+        MetricsCollector metrics = new MetricsCollector();
+        int result = new ParallelSelect(metrics).select(working, k);
+        counters.comparisons += metrics.getComparisons();
+        return result;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(SelectionBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+}
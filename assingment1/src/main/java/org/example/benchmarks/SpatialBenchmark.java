@@ -0,0 +1,108 @@
+package org.example.benchmarks;
+
+import org.example.algorithms.KdTree;
+import org.example.algorithms.Point;
+import org.example.metrics.MetricsCollector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class SpatialBenchmark {
+    private static final double EXTENT = 1_000_000;
+
+    @Param({"1000000", "10000000", "50000000"})
+    private int size;
+
+    private Point[] points;
+    private KdTree tree;
+    private double radius;
+    private double window;
+
+    // Each query thread draws its own query points so concurrent runs never share mutable state
+    @State(Scope.Thread)
+    public static class Queries {
+        private final SplittableRandom random = new SplittableRandom(7);
+
+        double next() {
+            return random.nextDouble() * EXTENT;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new Point(random.nextDouble() * EXTENT, random.nextDouble() * EXTENT);
+        }
+        tree = new KdTree(points, new MetricsCollector());
+
+        // Sized so radius and rectangle queries report about 100 points whatever the density
+        radius = EXTENT * Math.sqrt(100.0 / (Math.PI * size));
+        window = EXTENT * Math.sqrt(100.0 / size);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public KdTree build() {
+        return new KdTree(points, new MetricsCollector());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int nearest(Queries queries) {
+        return tree.nearest(queries.next(), queries.next());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Threads(4)
+    public int nearestConcurrent(Queries queries) {
+        return tree.nearest(queries.next(), queries.next());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] tenNearest(Queries queries) {
+        return tree.nearest(queries.next(), queries.next(), 10);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] withinRadius(Queries queries) {
+        return tree.withinRadius(queries.next(), queries.next(), radius);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int[] inRectangle(Queries queries) {
+        double x = queries.next();
+        double y = queries.next();
+        return tree.inRectangle(x, y, x + window, y + window);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(SpatialBenchmark.class.getSimpleName())
+            .build();
+
+        new Runner(opt).run();
+    }
+}
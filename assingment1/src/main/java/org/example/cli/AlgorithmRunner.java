@@ -5,11 +5,26 @@ import org.example.metrics.*;
 import org.example.utils.ArrayUtils;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class AlgorithmRunner {
+    private static final int DEFAULT_WARMUP_RUNS = 5;
+    private static final int DEFAULT_MEASURED_RUNS = 20;
+
+    private int warmupRuns = DEFAULT_WARMUP_RUNS;
+    private int measuredRuns = DEFAULT_MEASURED_RUNS;
+
+    // One benchmark run: builds the untimed state around a collector and returns the work to time
+    @FunctionalInterface
+    private interface Trial {
+        Runnable prepare(MetricsCollector metrics);
+    }
 
     public static void main(String[] args) {
         AlgorithmRunner runner = new AlgorithmRunner();
@@ -23,14 +38,42 @@ public class AlgorithmRunner {
 
     private void parseArgsAndRun(String[] args) {
         String algorithm = args[0].toLowerCase();
-        int size = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
-        String outputFile = args.length > 2 ? args[2] : "results.csv";
+
+        if (algorithm.equals("extsort")) {
+            runExternalSort(args);
+            return;
+        }
+
+        List<String> positional = new ArrayList<>();
+        String engine = "all";
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--engine") && i + 1 < args.length) {
+                engine = args[++i].toLowerCase();
+            } else if (args[i].equals("--warmup") && i + 1 < args.length) {
+                warmupRuns = Integer.parseInt(args[++i]);
+            } else if (args[i].equals("--runs") && i + 1 < args.length) {
+                measuredRuns = Integer.parseInt(args[++i]);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+
+        if (warmupRuns < 0 || measuredRuns < 1) {
+            System.err.println("Warm-up runs must be non-negative and measured runs positive");
+            printUsage();
+            return;
+        }
+
+        int size = positional.size() > 1 ? Integer.parseInt(positional.get(1)) : 1000;
+        String outputFile = positional.size() > 2 ? positional.get(2) : "results.csv";
 
         switch (algorithm) {
             case "mergesort" -> runMergeSort(size, outputFile);
+            case "pmergesort" -> runParallelMergeSort(size, outputFile);
             case "quicksort" -> runQuickSort(size, outputFile);
-            case "select" -> runSelect(size, outputFile);
-            case "closest" -> runClosestPair(size, outputFile);
+            case "radixsort" -> runRadixSort(size, outputFile);
+            case "select" -> runSelect(size, outputFile, engine);
+            case "closest" -> runClosestPair(size, outputFile, engine);
             case "all" -> runAllBenchmarks(outputFile);
             default -> {
                 System.err.println("Unknown algorithm: " + algorithm);
@@ -40,10 +83,72 @@ public class AlgorithmRunner {
     }
 
     private void printUsage() {
-        System.out.println("Usage: java AlgorithmRunner <algorithm> [size] [output.csv]");
-        System.out.println("Algorithms: mergesort, quicksort, select, closest, all");
+        System.out.println("Usage: java AlgorithmRunner <algorithm> [size] [output.csv] [--engine <engine>]"
+            + " [--warmup <runs>] [--runs <runs>]");
+        System.out.println("       java AlgorithmRunner extsort <input.bin> <output.bin> [--memory 512m]");
+        System.out.println("Algorithms: mergesort, pmergesort, quicksort, radixsort, select, closest, all");
+        System.out.println("Select engines: mom, inplace, quick, intro, floyd-rivest, parallel, all (default)");
+        System.out.println("Closest engines: dc, soa, parallel, grid, all (default)");
         System.out.println("Default size: 1000");
         System.out.println("Default output: results.csv");
+        System.out.printf("Default runs: %d warm-up, %d measured%n", DEFAULT_WARMUP_RUNS, DEFAULT_MEASURED_RUNS);
+    }
+
+    private void runExternalSort(String[] args) {
+        if (args.length < 3) {
+            printUsage();
+            return;
+        }
+
+        Path input = Path.of(args[1]);
+        Path output = Path.of(args[2]);
+        long memoryBytes = 512L * 1024 * 1024;
+
+        for (int i = 3; i < args.length; i++) {
+            if (args[i].equals("--memory") && i + 1 < args.length) {
+                memoryBytes = parseMemorySize(args[++i]);
+                if (memoryBytes <= 0) {
+                    System.err.println("Invalid memory size: " + args[i]);
+                    printUsage();
+                    return;
+                }
+            }
+        }
+
+        MetricsCollector metrics = new MetricsCollector();
+        ExternalMergeSort sorter = new ExternalMergeSort(metrics);
+
+        try {
+            metrics.startTiming();
+            sorter.sort(input, output, memoryBytes);
+            metrics.stopTiming();
+
+            System.out.printf("Sorted %s into %s using %d runs: %.3fms, %d merge comparisons%n",
+                input, output, metrics.getRuns(), metrics.getElapsedTimeMs(), metrics.getComparisons());
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.printf("Error during external sort: %s%n", e.getMessage());
+        }
+    }
+
+    // Sizes like 65536, 64k, 512m or 2g; returns -1 when the value is malformed or overflows
+    private long parseMemorySize(String value) {
+        String lower = value.toLowerCase();
+        if (!lower.matches("\\d+[kmg]?")) {
+            return -1;
+        }
+
+        long multiplier = switch (lower.charAt(lower.length() - 1)) {
+            case 'k' -> 1024L;
+            case 'm' -> 1024L * 1024;
+            case 'g' -> 1024L * 1024 * 1024;
+            default -> 1L;
+        };
+        String digits = multiplier == 1L ? lower : lower.substring(0, lower.length() - 1);
+        try {
+            return Math.multiplyExact(Long.parseLong(digits), multiplier);
+        } catch (NumberFormatException | ArithmeticException e) {
+            return -1;
+        }
     }
 
     private void runAllBenchmarks() {
@@ -61,8 +166,8 @@ public class AlgorithmRunner {
 
             results.addAll(runMergeSortBenchmark(size));
             results.addAll(runQuickSortBenchmark(size));
-            results.addAll(runSelectBenchmark(size));
-            results.addAll(runClosestPairBenchmark(size));
+            results.addAll(runSelectBenchmark(size, "all"));
+            results.addAll(runClosestPairBenchmark(size, "all"));
         }
 
         try {
@@ -85,23 +190,41 @@ public class AlgorithmRunner {
         results.add(benchmarkMergeSort(generateRandomArray(size), "MergeSort-Random"));
         results.add(benchmarkMergeSort(generateSortedArray(size), "MergeSort-Sorted"));
         results.add(benchmarkMergeSort(generateReverseSortedArray(size), "MergeSort-Reverse"));
+        results.add(benchmarkMergeSort(generateNearlySortedArray(size), "MergeSort-NearlySorted"));
+
+        results.add(benchmarkNaturalMergeSort(generateRandomArray(size), "NaturalMergeSort-Random"));
+        results.add(benchmarkNaturalMergeSort(generateSortedArray(size), "NaturalMergeSort-Sorted"));
+        results.add(benchmarkNaturalMergeSort(generateReverseSortedArray(size), "NaturalMergeSort-Reverse"));
+        results.add(benchmarkNaturalMergeSort(generateNearlySortedArray(size), "NaturalMergeSort-NearlySorted"));
 
         return results;
     }
 
     private BenchmarkResult benchmarkMergeSort(int[] array, String name) {
-        MetricsCollector metrics = new MetricsCollector();
-        MergeSort sorter = new MergeSort(metrics);
+        return measureSort(name, array, metrics -> new MergeSort(metrics)::sort);
+    }
 
-        metrics.startTiming();
-        sorter.sort(array);
-        metrics.stopTiming();
+    private BenchmarkResult benchmarkNaturalMergeSort(int[] array, String name) {
+        return measureSort(name, array, metrics -> new MergeSort(metrics)::naturalSort);
+    }
 
-        if (!ArrayUtils.isSorted(array)) {
-            throw new RuntimeException("Array not properly sorted by " + name);
-        }
+    private void runParallelMergeSort(int size, String outputFile) {
+        List<BenchmarkResult> results = runParallelMergeSortBenchmark(size);
+        writeResults(results, outputFile, "ParallelMergeSort");
+    }
+
+    private List<BenchmarkResult> runParallelMergeSortBenchmark(int size) {
+        List<BenchmarkResult> results = new ArrayList<>();
+
+        results.add(benchmarkParallelMergeSort(generateRandomArray(size), "ParallelMergeSort-Random"));
+        results.add(benchmarkParallelMergeSort(generateSortedArray(size), "ParallelMergeSort-Sorted"));
+        results.add(benchmarkParallelMergeSort(generateReverseSortedArray(size), "ParallelMergeSort-Reverse"));
 
-        return new BenchmarkResult(name, array.length, metrics);
+        return results;
+    }
+
+    private BenchmarkResult benchmarkParallelMergeSort(int[] array, String name) {
+        return measureSort(name, array, metrics -> new ParallelMergeSort(metrics)::sort);
     }
 
     private void runQuickSort(int size, String outputFile) {
@@ -115,73 +238,210 @@ public class AlgorithmRunner {
         results.add(benchmarkQuickSort(generateRandomArray(size), "QuickSort-Random"));
         results.add(benchmarkQuickSort(generateSortedArray(size), "QuickSort-Sorted"));
         results.add(benchmarkQuickSort(generateReverseSortedArray(size), "QuickSort-Reverse"));
+        results.add(benchmarkQuickSort(generateFewUniqueArray(size), "QuickSort-FewUnique"));
+        results.add(benchmarkQuickSort(generateAllEqualArray(size), "QuickSort-AllEqual"));
+
+        results.add(benchmarkQuickSort(generateRandomArray(size), "QuickSort3Way-Random",
+            QuickSort.PartitionStrategy.THREE_WAY));
+        results.add(benchmarkQuickSort(generateFewUniqueArray(size), "QuickSort3Way-FewUnique",
+            QuickSort.PartitionStrategy.THREE_WAY));
+        results.add(benchmarkQuickSort(generateAllEqualArray(size), "QuickSort3Way-AllEqual",
+            QuickSort.PartitionStrategy.THREE_WAY));
+
+        results.add(benchmarkQuickSort(generateRandomArray(size), "QuickSortDualPivot-Random",
+            QuickSort.PartitionStrategy.DUAL_PIVOT));
+        results.add(benchmarkQuickSort(generateFewUniqueArray(size), "QuickSortDualPivot-FewUnique",
+            QuickSort.PartitionStrategy.DUAL_PIVOT));
+        results.add(benchmarkQuickSort(generateAllEqualArray(size), "QuickSortDualPivot-AllEqual",
+            QuickSort.PartitionStrategy.DUAL_PIVOT));
+
+        results.add(benchmarkIntroSort(generateRandomArray(size), "IntroSort-Random"));
+        results.add(benchmarkIntroSort(generateAllEqualArray(size), "IntroSort-AllEqual"));
 
         return results;
     }
 
     private BenchmarkResult benchmarkQuickSort(int[] array, String name) {
-        MetricsCollector metrics = new MetricsCollector();
-        QuickSort sorter = new QuickSort(metrics, 42);
+        return benchmarkQuickSort(array, name, QuickSort.PartitionStrategy.LOMUTO);
+    }
+
+    private BenchmarkResult benchmarkQuickSort(int[] array, String name, QuickSort.PartitionStrategy strategy) {
+        return measureSort(name, array, metrics -> new QuickSort(metrics, 42, strategy)::sort);
+    }
 
-        metrics.startTiming();
-        sorter.sort(array);
-        metrics.stopTiming();
+    private BenchmarkResult benchmarkIntroSort(int[] array, String name) {
+        return measureSort(name, array, metrics -> new QuickSort(metrics, 42)::introSort);
+    }
 
-        if (!ArrayUtils.isSorted(array)) {
-            throw new RuntimeException("Array not properly sorted by " + name);
-        }
+    private void runRadixSort(int size, String outputFile) {
+        List<BenchmarkResult> results = runRadixSortBenchmark(size);
+        writeResults(results, outputFile, "RadixSort");
+    }
+
+    private List<BenchmarkResult> runRadixSortBenchmark(int size) {
+        List<BenchmarkResult> results = new ArrayList<>();
+
+        results.add(benchmarkRadixSort(generateRandomArray(size), "RadixSort-Random"));
+        results.add(benchmarkRadixSort(generateSignedRandomArray(size), "RadixSort-Signed"));
+        results.add(benchmarkRadixSort(generateSortedArray(size), "RadixSort-Sorted"));
+        results.add(benchmarkRadixSort(generateReverseSortedArray(size), "RadixSort-Reverse"));
 
-        return new BenchmarkResult(name, array.length, metrics);
+        return results;
     }
 
-    private void runSelect(int size, String outputFile) {
-        List<BenchmarkResult> results = runSelectBenchmark(size);
+    private BenchmarkResult benchmarkRadixSort(int[] array, String name) {
+        return measureSort(name, array, metrics -> new RadixSort(metrics)::sort);
+    }
+
+    private void runSelect(int size, String outputFile, String engine) {
+        List<BenchmarkResult> results = runSelectBenchmark(size, engine);
+        if (results.isEmpty()) {
+            System.err.println("Unknown select engine: " + engine);
+            printUsage();
+            return;
+        }
         writeResults(results, outputFile, "Select");
     }
 
-    private List<BenchmarkResult> runSelectBenchmark(int size) {
+    private List<BenchmarkResult> runSelectBenchmark(int size, String engine) {
         List<BenchmarkResult> results = new ArrayList<>();
+        String[] engines = {"mom", "inplace", "quick", "intro", "floyd-rivest", "parallel"};
 
-        results.add(benchmarkSelect(generateRandomArray(size), "DeterministicSelect"));
+        for (String candidate : engines) {
+            if (engine.equals("all") || engine.equals(candidate)) {
+                results.add(benchmarkSelect(generateRandomArray(size), candidate));
+            }
+        }
 
         return results;
     }
 
-    private BenchmarkResult benchmarkSelect(int[] array, String name) {
-        MetricsCollector metrics = new MetricsCollector();
-        DeterministicSelect selector = new DeterministicSelect(metrics);
-
+    private BenchmarkResult benchmarkSelect(int[] array, String engine) {
         int k = array.length / 2; // Find median
 
-        metrics.startTiming();
-        int result = selector.select(array.clone(), k);
-        metrics.stopTiming();
-
-        return new BenchmarkResult(name, array.length, metrics);
+        String name = switch (engine) {
+            case "inplace" -> "InPlaceSelect";
+            case "quick" -> "QuickSelect";
+            case "intro" -> "IntroSelect";
+            case "floyd-rivest" -> "FloydRivestSelect";
+            case "parallel" -> "ParallelSelect";
+            default -> "DeterministicSelect";
+        };
+
+        return measure(name, array.length, metrics -> {
+            DeterministicSelect selector = new DeterministicSelect(metrics);
+            int[] working = array.clone();
+            return switch (engine) {
+                case "inplace" -> () -> selector.selectInPlace(working, k);
+                case "quick" -> () -> selector.quickSelect(working, k);
+                case "intro" -> () -> selector.introSelect(working, k);
+                case "floyd-rivest" -> () -> selector.floydRivestSelect(working, k);
+                case "parallel" -> {
+                    ParallelSelect parallelSelector = new ParallelSelect(metrics);
+                    yield () -> parallelSelector.select(working, k);
+                }
+                default -> () -> selector.select(working, k);
+            };
+        });
     }
 
-    private void runClosestPair(int size, String outputFile) {
-        List<BenchmarkResult> results = runClosestPairBenchmark(size);
+    private void runClosestPair(int size, String outputFile, String engine) {
+        List<BenchmarkResult> results = runClosestPairBenchmark(size, engine);
+        if (results.isEmpty()) {
+            System.err.println("Unknown closest engine: " + engine);
+            printUsage();
+            return;
+        }
         writeResults(results, outputFile, "ClosestPair");
     }
 
-    private List<BenchmarkResult> runClosestPairBenchmark(int size) {
+    private List<BenchmarkResult> runClosestPairBenchmark(int size, String engine) {
         List<BenchmarkResult> results = new ArrayList<>();
+        String[] engines = {"dc", "soa", "parallel", "grid"};
 
-        results.add(benchmarkClosestPair(generateRandomPoints(size), "ClosestPair-Random"));
+        for (String candidate : engines) {
+            if (engine.equals("all") || engine.equals(candidate)) {
+                results.add(benchmarkClosestPair(generateRandomPoints(size), candidate));
+            }
+        }
 
         return results;
     }
 
-    private BenchmarkResult benchmarkClosestPair(Point[] points, String name) {
-        MetricsCollector metrics = new MetricsCollector();
-        ClosestPair finder = new ClosestPair(metrics);
+    private BenchmarkResult benchmarkClosestPair(Point[] points, String engine) {
+        String name = switch (engine) {
+            case "grid" -> "GridClosestPair-Random";
+            case "parallel" -> "ParallelClosestPair-Random";
+            case "soa" -> "ClosestPair-SoA-Random";
+            default -> "ClosestPair-Random";
+        };
+
+        return measure(name, points.length, metrics -> {
+            Point[] working = points.clone();
+            switch (engine) {
+                case "grid" -> {
+                    GridClosestPair gridFinder = new GridClosestPair(metrics, 42);
+                    return () -> gridFinder.findClosestPair(working);
+                }
+                case "parallel" -> {
+                    ParallelClosestPair parallelFinder = new ParallelClosestPair(metrics);
+                    return () -> parallelFinder.findClosestPair(working);
+                }
+                case "soa" -> {
+                    double[] xs = new double[working.length];
+                    double[] ys = new double[working.length];
+                    for (int i = 0; i < working.length; i++) {
+                        xs[i] = working[i].x;
+                        ys[i] = working[i].y;
+                    }
+                    ClosestPair finder = new ClosestPair(metrics);
+                    return () -> finder.findClosestPair(xs, ys);
+                }
+                default -> {
+                    ClosestPair finder = new ClosestPair(metrics);
+                    return () -> finder.findClosestPair(working);
+                }
+            }
+        });
+    }
+
+    // Sorts a fresh copy of array on every run. One untimed run checks the output before anything is measured
+    private BenchmarkResult measureSort(String name, int[] array, Function<MetricsCollector, Consumer<int[]>> sorter) {
+        int[] check = array.clone();
+        sorter.apply(new MetricsCollector()).accept(check);
+        if (!ArrayUtils.isSorted(check)) {
+            throw new RuntimeException("Array not properly sorted by " + name);
+        }
+
+        return measure(name, array.length, metrics -> {
+            Consumer<int[]> sort = sorter.apply(metrics);
+            int[] working = array.clone();
+            return () -> sort.accept(working);
+        });
+    }
+
+    // Warm-up runs give the JIT time to compile the hot paths and are discarded; every measured run gets a
+    // fresh collector and its latency goes into the histogram. Counters are reported from the last run
+    private BenchmarkResult measure(String name, int size, Trial trial) {
+        for (int run = 0; run < warmupRuns; run++) {
+            trial.prepare(new MetricsCollector()).run();
+        }
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        MetricsSnapshot counters = null;
+        for (int run = 0; run < measuredRuns; run++) {
+            MetricsCollector metrics = new MetricsCollector();
+            Runnable work = trial.prepare(metrics);
 
-        metrics.startTiming();
-        ClosestPair.PointPair result = finder.findClosestPair(points);
-        metrics.stopTiming();
+            metrics.startTiming();
+            work.run();
+            metrics.stopTiming();
 
-        return new BenchmarkResult(name, points.length, metrics);
+            latencies.record(metrics.getElapsedTimeNanos());
+            counters = metrics.snapshot();
+        }
+
+        return new BenchmarkResult(name, size, counters, latencies);
     }
 
     private void writeResults(List<BenchmarkResult> results, String outputFile, String algorithm) {
@@ -206,6 +466,15 @@ public class AlgorithmRunner {
         return array;
     }
 
+    private int[] generateSignedRandomArray(int size) {
+        Random random = new Random(42);
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt();
+        }
+        return array;
+    }
+
     private int[] generateSortedArray(int size) {
         int[] array = new int[size];
         for (int i = 0; i < size; i++) {
@@ -222,6 +491,31 @@ public class AlgorithmRunner {
         return array;
     }
 
+    private int[] generateNearlySortedArray(int size) {
+        Random random = new Random(42);
+        int[] array = generateSortedArray(size);
+        int tail = Math.max(1, size / 100);
+        for (int i = size - tail; i < size; i++) {
+            array[i] = random.nextInt(size);
+        }
+        return array;
+    }
+
+    private int[] generateFewUniqueArray(int size) {
+        Random random = new Random(42);
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(10);
+        }
+        return array;
+    }
+
+    private int[] generateAllEqualArray(int size) {
+        int[] array = new int[size];
+        Arrays.fill(array, 7);
+        return array;
+    }
+
     private Point[] generateRandomPoints(int size) {
         Random random = new Random(42);
         Point[] points = new Point[size];
@@ -8,15 +8,56 @@ public class BenchmarkResult {
     private final long swaps;
     private final long allocations;
     private final int maxDepth;
+    private final double minMs;
+    private final double p50Ms;
+    private final double p90Ms;
+    private final double p99Ms;
+    private final double maxMs;
+    private final double meanMs;
+    private final double stddevMs;
 
     public BenchmarkResult(String algorithmName, int inputSize, MetricsCollector metrics) {
+        this(algorithmName, inputSize, metrics.snapshot());
+    }
+
+    // A single timed run: every latency statistic is that one timing
+    public BenchmarkResult(String algorithmName, int inputSize, MetricsSnapshot snapshot) {
+        this.algorithmName = algorithmName;
+        this.inputSize = inputSize;
+        this.timeMs = snapshot.getElapsedTimeMs();
+        this.comparisons = snapshot.getComparisons();
+        this.swaps = snapshot.getSwaps();
+        this.allocations = snapshot.getAllocations();
+        this.maxDepth = snapshot.getMaxDepth();
+        this.minMs = timeMs;
+        this.p50Ms = timeMs;
+        this.p90Ms = timeMs;
+        this.p99Ms = timeMs;
+        this.maxMs = timeMs;
+        this.meanMs = timeMs;
+        this.stddevMs = 0;
+    }
+
+    // Repeated runs: counters come from one representative run and timeMs is the median latency
+    public BenchmarkResult(String algorithmName, int inputSize, MetricsSnapshot snapshot, LatencyHistogram latencies) {
         this.algorithmName = algorithmName;
         this.inputSize = inputSize;
-        this.timeMs = metrics.getElapsedTimeMs();
-        this.comparisons = metrics.getComparisons();
-        this.swaps = metrics.getSwaps();
-        this.allocations = metrics.getAllocations();
-        this.maxDepth = metrics.getMaxDepth();
+        this.comparisons = snapshot.getComparisons();
+        this.swaps = snapshot.getSwaps();
+        this.allocations = snapshot.getAllocations();
+        this.maxDepth = snapshot.getMaxDepth();
+        this.minMs = toMs(latencies.getMinNanos());
+        this.p50Ms = toMs(latencies.getValueAtPercentile(50));
+        this.p90Ms = toMs(latencies.getValueAtPercentile(90));
+        this.p99Ms = toMs(latencies.getValueAtPercentile(99));
+        this.maxMs = toMs(latencies.getMaxNanos());
+        this.meanMs = toMs(latencies.getMeanNanos());
+        this.stddevMs = toMs(latencies.getStdDevNanos());
+        this.timeMs = p50Ms;
+    }
+
+    private static double toMs(double nanos) {
+        return nanos / 1_000_000.0;
     }
 
     public String getAlgorithmName() {
@@ -47,9 +88,37 @@ public class BenchmarkResult {
         return maxDepth;
     }
 
+    public double getMinMs() {
+        return minMs;
+    }
+
+    public double getP50Ms() {
+        return p50Ms;
+    }
+
+    public double getP90Ms() {
+        return p90Ms;
+    }
+
+    public double getP99Ms() {
+        return p99Ms;
+    }
+
+    public double getMaxMs() {
+        return maxMs;
+    }
+
+    public double getMeanMs() {
+        return meanMs;
+    }
+
+    public double getStddevMs() {
+        return stddevMs;
+    }
+
     @Override
     public String toString() {
-        return String.format("%s(n=%d): %.3fms, %d comparisons, %d swaps, depth=%d",
-            algorithmName, inputSize, timeMs, comparisons, swaps, maxDepth);
+        return String.format("%s(n=%d): %.3fms (p99 %.3fms), %d comparisons, %d swaps, depth=%d",
+            algorithmName, inputSize, timeMs, p99Ms, comparisons, swaps, maxDepth);
     }
 }
\ No newline at end of file
@@ -3,38 +3,45 @@ package org.example.metrics;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
 
 public class CSVWriter {
+    private static final String HEADER =
+        "algorithm,n,timeMs,comparisons,swaps,allocations,maxDepth,minMs,p50Ms,p90Ms,p99Ms,maxMs,meanMs,stddevMs\n";
 
     public static void writeMetrics(String filename, List<BenchmarkResult> results) throws IOException {
         try (FileWriter writer = new FileWriter(filename)) {
-            writer.write("algorithm,n,timeMs,comparisons,swaps,allocations,maxDepth\n");
+            writer.write(HEADER);
 
             for (BenchmarkResult result : results) {
-                writer.write(String.format("%s,%d,%.3f,%d,%d,%d,%d\n",
-                    result.getAlgorithmName(),
-                    result.getInputSize(),
-                    result.getTimeMs(),
-                    result.getComparisons(),
-                    result.getSwaps(),
-                    result.getAllocations(),
-                    result.getMaxDepth()
-                ));
+                writer.write(formatRow(result));
             }
         }
     }
 
     public static void appendMetric(String filename, BenchmarkResult result) throws IOException {
         try (FileWriter writer = new FileWriter(filename, true)) {
-            writer.write(String.format("%s,%d,%.3f,%d,%d,%d,%d\n",
-                result.getAlgorithmName(),
-                result.getInputSize(),
-                result.getTimeMs(),
-                result.getComparisons(),
-                result.getSwaps(),
-                result.getAllocations(),
-                result.getMaxDepth()
-            ));
+            writer.write(formatRow(result));
         }
     }
-}
\ No newline at end of file
+
+    // Locale.ROOT keeps the decimal point a dot, so a comma locale cannot split one value into two columns
+    private static String formatRow(BenchmarkResult result) {
+        return String.format(Locale.ROOT, "%s,%d,%.3f,%d,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f\n",
+            result.getAlgorithmName(),
+            result.getInputSize(),
+            result.getTimeMs(),
+            result.getComparisons(),
+            result.getSwaps(),
+            result.getAllocations(),
+            result.getMaxDepth(),
+            result.getMinMs(),
+            result.getP50Ms(),
+            result.getP90Ms(),
+            result.getP99Ms(),
+            result.getMaxMs(),
+            result.getMeanMs(),
+            result.getStddevMs()
+        );
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Safe to share between threads: counters are LongAdders, so concurrent increments land in different
+// cells instead of contending on one field. Recursion depth is tracked per thread and folded into a global
+// maximum. fork() hands out the same collector, so parallel engines need no per-task merge, and a task run
+// by a stealing thread counts its depth from that thread's own stack rather than from the forking task.
+public final class ConcurrentMetricsCollector extends MetricsCollector {
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder allocations = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder gallops = new LongAdder();
+    private final LongAdder matches = new LongAdder();
+    private final AtomicInteger maxDepth = new AtomicInteger();
+    private final ThreadLocal<int[]> currentDepth = ThreadLocal.withInitial(() -> new int[1]);
+    private volatile long startTime = 0;
+    private volatile long endTime = 0;
+
+    // Counters are cleared one at a time, so call it while no worker is running
+    @Override
+    public void reset() {
+        comparisons.reset();
+        swaps.reset();
+        allocations.reset();
+        fallbacks.reset();
+        runs.reset();
+        gallops.reset();
+        matches.reset();
+        maxDepth.set(0);
+        startTime = 0;
+        endTime = 0;
+    }
+
+    @Override
+    public void startTiming() {
+        endTime = 0;
+        startTime = System.nanoTime();
+    }
+
+    @Override
+    public void stopTiming() {
+        endTime = System.nanoTime();
+    }
+
+    // While timing is still running this reports the time elapsed so far
+    @Override
+    public long getElapsedTimeNanos() {
+        long end = endTime;
+        return (end == 0 ? System.nanoTime() : end) - startTime;
+    }
+
+    @Override
+    public double getElapsedTimeMs() {
+        return getElapsedTimeNanos() / 1_000_000.0;
+    }
+
+    @Override
+    public void incrementComparisons() {
+        comparisons.increment();
+    }
+
+    @Override
+    public void incrementComparisons(long count) {
+        comparisons.add(count);
+    }
+
+    @Override
+    public void incrementSwaps() {
+        swaps.increment();
+    }
+
+    @Override
+    public void incrementSwaps(long count) {
+        swaps.add(count);
+    }
+
+    @Override
+    public void incrementAllocations() {
+        allocations.increment();
+    }
+
+    @Override
+    public void incrementFallbacks() {
+        fallbacks.increment();
+    }
+
+    @Override
+    public void incrementRuns() {
+        runs.increment();
+    }
+
+    @Override
+    public void incrementGallops() {
+        gallops.increment();
+    }
+
+    @Override
+    public void incrementMatches() {
+        matches.increment();
+    }
+
+    @Override
+    public void enterRecursion() {
+        int[] depth = currentDepth.get();
+        raiseMaxDepth(++depth[0]);
+    }
+
+    @Override
+    public void exitRecursion() {
+        currentDepth.get()[0]--;
+    }
+
+    @Override
+    public MetricsCollector fork() {
+        return this;
+    }
+
+    @Override
+    public void merge(MetricsCollector other) {
+        if (other == this) {
+            return;
+        }
+
+        comparisons.add(other.getComparisons());
+        swaps.add(other.getSwaps());
+        allocations.add(other.getAllocations());
+        fallbacks.add(other.getFallbacks());
+        runs.add(other.getRuns());
+        gallops.add(other.getGallops());
+        matches.add(other.getMatches());
+        raiseMaxDepth(currentDepth.get()[0] + other.getMaxDepth());
+    }
+
+    private void raiseMaxDepth(int depth) {
+        // The plain read skips the atomic update on the common path where the maximum is already higher
+        if (depth > maxDepth.get()) {
+            maxDepth.accumulateAndGet(depth, Math::max);
+        }
+    }
+
+    @Override
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    @Override
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    @Override
+    public long getAllocations() {
+        return allocations.sum();
+    }
+
+    @Override
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    @Override
+    public long getGallops() {
+        return gallops.sum();
+    }
+
+    @Override
+    public long getMatches() {
+        return matches.sum();
+    }
+
+    @Override
+    public int getMaxDepth() {
+        return maxDepth.get();
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.metrics;
+
+// Log-linear latency histogram in nanoseconds, laid out like HdrHistogram: values below SUB_BUCKETS get one
+// bucket each, and every power of two above that is split into SUB_BUCKETS / 2 equal buckets, so any
+// recorded value is known to within 0.2% from one nanosecond up to Long.MAX_VALUE. Min, max, mean and
+// standard deviation are tracked exactly; percentiles are read from the buckets.
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 10;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int BUCKETS = SUB_BUCKETS + (64 - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    // Welford's running mean and sum of squared deviations
+    private double mean;
+    private double squaredDeviations;
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("Latency must not be negative");
+        }
+
+        counts[bucketOf(nanos)]++;
+        count++;
+        min = Math.min(min, nanos);
+        max = Math.max(max, nanos);
+
+        double delta = nanos - mean;
+        mean += delta / count;
+        squaredDeviations += delta * (nanos - mean);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMinNanos() {
+        requireSamples();
+        return min;
+    }
+
+    public long getMaxNanos() {
+        requireSamples();
+        return max;
+    }
+
+    public double getMeanNanos() {
+        requireSamples();
+        return mean;
+    }
+
+    // Population standard deviation of the recorded values
+    public double getStdDevNanos() {
+        requireSamples();
+        return Math.sqrt(squaredDeviations / count);
+    }
+
+    // Nearest-rank percentile in [0, 100]. The lowest and highest ranks are exact; the rest are reported as the
+    // middle of their bucket, kept within [min, max]
+    public long getValueAtPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100");
+        }
+        requireSamples();
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        if (rank == 1) {
+            return min;
+        }
+        if (rank >= count) {
+            return max;
+        }
+
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                long value = lowestValueOf(bucket) + (widthOf(bucket) - 1) / 2;
+                return Math.max(min, Math.min(max, value));
+            }
+        }
+        return max;
+    }
+
+    private void requireSamples() {
+        if (count == 0) {
+            throw new IllegalStateException("Histogram is empty");
+        }
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        // Scale value into [HALF_SUB_BUCKETS, SUB_BUCKETS) and count how far it had to shift
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + (int) (value >>> shift) - HALF_SUB_BUCKETS;
+    }
+
+    static long lowestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long subBucket = (bucket - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        return subBucket << shift;
+    }
+
+    private static long widthOf(int bucket) {
+        return bucket < SUB_BUCKETS ? 1 : 1L << ((bucket - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1);
+    }
+}
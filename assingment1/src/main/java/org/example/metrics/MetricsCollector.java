@@ -4,15 +4,35 @@ public class MetricsCollector {
     private long comparisons = 0;
     private long swaps = 0;
     private long allocations = 0;
+    private long fallbacks = 0;
+    private long runs = 0;
+    private long gallops = 0;
+    private long matches = 0;
     private int maxDepth = 0;
     private int currentDepth = 0;
     private long startTime = 0;
     private long endTime = 0;
 
+    public static MetricsCollector noOp() {
+        return new NoOpMetricsCollector();
+    }
+
+    public static MetricsCollector sampled(int period) {
+        return new SampledMetricsCollector(period);
+    }
+
+    public static MetricsCollector concurrent() {
+        return new ConcurrentMetricsCollector();
+    }
+
     public void reset() {
         comparisons = 0;
         swaps = 0;
         allocations = 0;
+        fallbacks = 0;
+        runs = 0;
+        gallops = 0;
+        matches = 0;
         maxDepth = 0;
         currentDepth = 0;
         startTime = 0;
@@ -39,14 +59,38 @@ public class MetricsCollector {
         comparisons++;
     }
 
+    public void incrementComparisons(long count) {
+        comparisons += count;
+    }
+
     public void incrementSwaps() {
         swaps++;
     }
 
+    public void incrementSwaps(long count) {
+        swaps += count;
+    }
+
     public void incrementAllocations() {
         allocations++;
     }
 
+    public void incrementFallbacks() {
+        fallbacks++;
+    }
+
+    public void incrementRuns() {
+        runs++;
+    }
+
+    public void incrementGallops() {
+        gallops++;
+    }
+
+    public void incrementMatches() {
+        matches++;
+    }
+
     public void enterRecursion() {
         currentDepth++;
         if (currentDepth > maxDepth) {
@@ -58,6 +102,21 @@ public class MetricsCollector {
         currentDepth--;
     }
 
+    public MetricsCollector fork() {
+        return new MetricsCollector();
+    }
+
+    public void merge(MetricsCollector other) {
+        comparisons += other.getComparisons();
+        swaps += other.getSwaps();
+        allocations += other.getAllocations();
+        fallbacks += other.getFallbacks();
+        runs += other.getRuns();
+        gallops += other.getGallops();
+        matches += other.getMatches();
+        maxDepth = Math.max(maxDepth, currentDepth + other.getMaxDepth());
+    }
+
     public long getComparisons() {
         return comparisons;
     }
@@ -70,15 +129,38 @@ public class MetricsCollector {
         return allocations;
     }
 
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public long getGallops() {
+        return gallops;
+    }
+
+    public long getMatches() {
+        return matches;
+    }
+
     public int getMaxDepth() {
         return maxDepth;
     }
 
+    // Reads each counter once; on a collector shared by running workers the counters are read one after
+    // another, so the copy can be slightly skewed but never blocks anyone
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(getComparisons(), getSwaps(), getAllocations(), getFallbacks(), getRuns(),
+            getGallops(), getMatches(), getMaxDepth(), getElapsedTimeNanos());
+    }
+
     @Override
     public String toString() {
         return String.format(
-            "MetricsCollector{comparisons=%d, swaps=%d, allocations=%d, maxDepth=%d, timeMs=%.3f}",
-            comparisons, swaps, allocations, maxDepth, getElapsedTimeMs()
+            "MetricsCollector{comparisons=%d, swaps=%d, allocations=%d, fallbacks=%d, maxDepth=%d, timeMs=%.3f}",
+            getComparisons(), getSwaps(), getAllocations(), getFallbacks(), getMaxDepth(), getElapsedTimeMs()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package org.example.metrics;
+
+// Immutable copy of a collector's counters at one moment
+public final class MetricsSnapshot {
+    private final long comparisons;
+    private final long swaps;
+    private final long allocations;
+    private final long fallbacks;
+    private final long runs;
+    private final long gallops;
+    private final long matches;
+    private final int maxDepth;
+    private final long elapsedTimeNanos;
+
+    public MetricsSnapshot(long comparisons, long swaps, long allocations, long fallbacks, long runs, long gallops,
+                           long matches, int maxDepth, long elapsedTimeNanos) {
+        this.comparisons = comparisons;
+        this.swaps = swaps;
+        this.allocations = allocations;
+        this.fallbacks = fallbacks;
+        this.runs = runs;
+        this.gallops = gallops;
+        this.matches = matches;
+        this.maxDepth = maxDepth;
+        this.elapsedTimeNanos = elapsedTimeNanos;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getSwaps() {
+        return swaps;
+    }
+
+    public long getAllocations() {
+        return allocations;
+    }
+
+    public long getFallbacks() {
+        return fallbacks;
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public long getGallops() {
+        return gallops;
+    }
+
+    public long getMatches() {
+        return matches;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getElapsedTimeNanos() {
+        return elapsedTimeNanos;
+    }
+
+    public double getElapsedTimeMs() {
+        return elapsedTimeNanos / 1_000_000.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "MetricsSnapshot{comparisons=%d, swaps=%d, allocations=%d, fallbacks=%d, maxDepth=%d, timeMs=%.3f}",
+            comparisons, swaps, allocations, fallbacks, maxDepth, getElapsedTimeMs()
+        );
+    }
+}
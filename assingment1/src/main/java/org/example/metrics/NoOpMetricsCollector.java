@@ -0,0 +1,57 @@
+package org.example.metrics;
+
+public final class NoOpMetricsCollector extends MetricsCollector {
+
+    @Override
+    public void incrementComparisons() {
+    }
+
+    @Override
+    public void incrementComparisons(long count) {
+    }
+
+    @Override
+    public void incrementSwaps() {
+    }
+
+    @Override
+    public void incrementSwaps(long count) {
+    }
+
+    @Override
+    public void incrementAllocations() {
+    }
+
+    @Override
+    public void incrementFallbacks() {
+    }
+
+    @Override
+    public void incrementRuns() {
+    }
+
+    @Override
+    public void incrementGallops() {
+    }
+
+    @Override
+    public void incrementMatches() {
+    }
+
+    @Override
+    public void enterRecursion() {
+    }
+
+    @Override
+    public void exitRecursion() {
+    }
+
+    @Override
+    public MetricsCollector fork() {
+        return this;
+    }
+
+    @Override
+    public void merge(MetricsCollector other) {
+    }
+}
@@ -0,0 +1,85 @@
+package org.example.metrics;
+
+public final class SampledMetricsCollector extends MetricsCollector {
+    private final int period;
+    private int comparisonCountdown;
+    private int swapCountdown;
+    private long sampledComparisons = 0;
+    private long sampledSwaps = 0;
+
+    public SampledMetricsCollector(int period) {
+        if (period < 1) {
+            throw new IllegalArgumentException("Sampling period must be positive");
+        }
+        this.period = period;
+        this.comparisonCountdown = period;
+        this.swapCountdown = period;
+    }
+
+    public int getPeriod() {
+        return period;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        comparisonCountdown = period;
+        swapCountdown = period;
+        sampledComparisons = 0;
+        sampledSwaps = 0;
+    }
+
+    // Only every period-th event is recorded; getters scale the samples back up
+    @Override
+    public void incrementComparisons() {
+        if (--comparisonCountdown == 0) {
+            comparisonCountdown = period;
+            sampledComparisons++;
+        }
+    }
+
+    @Override
+    public void incrementComparisons(long count) {
+        if (count < comparisonCountdown) {
+            comparisonCountdown -= (int) count;
+            return;
+        }
+        long remaining = count - comparisonCountdown;
+        sampledComparisons += 1 + remaining / period;
+        comparisonCountdown = period - (int) (remaining % period);
+    }
+
+    @Override
+    public void incrementSwaps() {
+        if (--swapCountdown == 0) {
+            swapCountdown = period;
+            sampledSwaps++;
+        }
+    }
+
+    @Override
+    public void incrementSwaps(long count) {
+        if (count < swapCountdown) {
+            swapCountdown -= (int) count;
+            return;
+        }
+        long remaining = count - swapCountdown;
+        sampledSwaps += 1 + remaining / period;
+        swapCountdown = period - (int) (remaining % period);
+    }
+
+    @Override
+    public MetricsCollector fork() {
+        return new SampledMetricsCollector(period);
+    }
+
+    @Override
+    public long getComparisons() {
+        return super.getComparisons() + sampledComparisons * period;
+    }
+
+    @Override
+    public long getSwaps() {
+        return super.getSwaps() + sampledSwaps * period;
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllNearestNeighborsTest {
+    private MetricsCollector metrics;
+    private ForkJoinPool pool;
+    private AllNearestNeighbors allNearestNeighbors;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        pool = new ForkJoinPool(4);
+        allNearestNeighbors = new AllNearestNeighbors(metrics, pool, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private Point[] randomPoints(int size, long seed) {
+        Random random = new Random(seed);
+        Point[] points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+        return points;
+    }
+
+    private double[] allPairDistances(Point[] points) {
+        double[] distances = new double[points.length * (points.length - 1) / 2];
+        int size = 0;
+        for (int i = 0; i < points.length; i++) {
+            for (int j = i + 1; j < points.length; j++) {
+                distances[size++] = points[i].distanceTo(points[j]);
+            }
+        }
+        Arrays.sort(distances);
+        return distances;
+    }
+
+    @Test
+    void testFindAllMatchesBruteForce() {
+        for (int size : new int[]{2, 3, 10, 500, 3000}) {
+            Point[] points = randomPoints(size, size);
+            int[] neighbours = new int[size];
+            double[] distances = new double[size];
+            allNearestNeighbors.findAll(points, neighbours, distances);
+
+            for (int i = 0; i < size; i++) {
+                double expected = Double.POSITIVE_INFINITY;
+                for (int j = 0; j < size; j++) {
+                    if (j != i) {
+                        expected = Math.min(expected, points[i].distanceTo(points[j]));
+                    }
+                }
+                assertNotEquals(i, neighbours[i]);
+                assertEquals(expected, distances[i], 1e-9, "size=" + size + " point=" + i);
+                assertEquals(distances[i], points[i].distanceTo(points[neighbours[i]]), 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testFindAllWithDuplicates() {
+        Point[] points = randomPoints(200, 3);
+        points[150] = points[40];
+        int[] neighbours = new int[points.length];
+        double[] distances = new double[points.length];
+        allNearestNeighbors.findAll(points, neighbours, distances);
+
+        assertEquals(150, neighbours[40]);
+        assertEquals(40, neighbours[150]);
+        assertEquals(0.0, distances[40], 0.0);
+    }
+
+    @Test
+    void testKClosestPairsMatchBruteForce() {
+        for (int size : new int[]{2, 5, 100, 1500}) {
+            Point[] points = randomPoints(size, 7 * size);
+            double[] expected = allPairDistances(points);
+
+            for (int k : new int[]{1, 2, 10, 200}) {
+                ClosestPair.IndexPair[] pairs = allNearestNeighbors.kClosestPairs(points, k);
+                assertEquals(Math.min(k, expected.length), pairs.length, "size=" + size + " k=" + k);
+
+                Set<Long> seen = new HashSet<>();
+                for (int i = 0; i < pairs.length; i++) {
+                    assertTrue(pairs[i].first < pairs[i].second);
+                    assertTrue(seen.add((long) pairs[i].first * size + pairs[i].second), "duplicate pair");
+                    assertEquals(expected[i], pairs[i].distance, 1e-9, "size=" + size + " k=" + k + " i=" + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testKClosestPairsOnAGrid() {
+        // Every lattice point has up to four neighbours at distance 1, so ties dominate the answer
+        Point[] points = new Point[100];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new Point(i % 10, i / 10);
+        }
+        ClosestPair.IndexPair[] pairs = allNearestNeighbors.kClosestPairs(points, 180);
+        assertEquals(180, pairs.length);
+        for (ClosestPair.IndexPair pair : pairs) {
+            assertEquals(1.0, pair.distance, 0.0);
+        }
+    }
+
+    @Test
+    void testMatchesSingleClosestPair() {
+        Point[] points = randomPoints(100_000, 13);
+        ClosestPair.PointPair expected = new ClosestPair(new MetricsCollector()).findClosestPair(points);
+
+        ClosestPair.IndexPair[] pairs = new AllNearestNeighbors(metrics, pool).kClosestPairs(points, 1);
+        assertEquals(expected.distance, pairs[0].distance, 0.0);
+
+        // Queries report their distance checks through the task collectors
+        assertTrue(metrics.getComparisons() > points.length);
+    }
+
+    @Test
+    void testInvalidInputs() {
+        Point[] points = randomPoints(10, 1);
+        assertThrows(IllegalArgumentException.class,
+            () -> allNearestNeighbors.findAll(new Point[]{new Point(0, 0)}, new int[1], new double[1]));
+        assertThrows(IllegalArgumentException.class,
+            () -> allNearestNeighbors.findAll(points, new int[9], new double[10]));
+        assertThrows(IllegalArgumentException.class, () -> allNearestNeighbors.kClosestPairs(points, 0));
+        assertThrows(IllegalArgumentException.class, () -> allNearestNeighbors.kClosestPairs(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AllNearestNeighbors(metrics, pool, 0));
+    }
+}
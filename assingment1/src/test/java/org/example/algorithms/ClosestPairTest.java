@@ -4,6 +4,8 @@ import org.example.metrics.MetricsCollector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -99,4 +101,122 @@ class ClosestPairTest {
         assertThrows(IllegalArgumentException.class, () -> closestPair.findClosestPair(new Point[0]));
         assertThrows(IllegalArgumentException.class, () -> closestPair.findClosestPair(new Point[]{new Point(0, 0)}));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMetricsExcludePresorting() {
+        Random random = new Random(5);
+        Point[] points = new Point[1000];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+        Point[] presorted = points.clone();
+        Arrays.sort(presorted, Comparator.comparingDouble(p -> p.x));
+
+        closestPair.findClosestPair(points);
+        long shuffledComparisons = metrics.getComparisons();
+        int shuffledDepth = metrics.getMaxDepth();
+
+        // The recursion only sees the sorted views, so input order must not change what it counts
+        metrics.reset();
+        closestPair.findClosestPair(presorted);
+        assertEquals(shuffledComparisons, metrics.getComparisons());
+        assertEquals(shuffledDepth, metrics.getMaxDepth());
+        assertEquals(0, metrics.getSwaps());
+    }
+
+    @Test
+    void testStructOfArraysMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int size : new int[]{2, 3, 4, 5, 17, 100, 1000}) {
+            Point[] points = new Point[size];
+            double[] xs = new double[size];
+            double[] ys = new double[size];
+            for (int i = 0; i < size; i++) {
+                points[i] = new Point(random.nextDouble() * 100, random.nextDouble() * 100);
+                xs[i] = points[i].x;
+                ys[i] = points[i].y;
+            }
+
+            ClosestPair.PointPair expected = closestPair.bruteForceClosestPair(points);
+            ClosestPair.IndexPair result = closestPair.findClosestPair(xs, ys);
+
+            assertEquals(expected.distance, result.distance, 1e-9, "size=" + size);
+            assertEquals(result.distance, points[result.first].distanceTo(points[result.second]), 1e-12);
+            assertNotEquals(result.first, result.second);
+        }
+    }
+
+    @Test
+    void testStructOfArraysSharedXCoordinates() {
+        // Many points on the split line exercise the strip, and the answer crosses the middle
+        double[] xs = new double[64];
+        double[] ys = new double[64];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = i % 2 == 0 ? 5.0 : 5.0 + 10 * i;
+            ys[i] = 10.0 * i;
+        }
+        ys[40] = 200.5;
+
+        ClosestPair.IndexPair result = closestPair.findClosestPair(xs, ys);
+        assertEquals(0.5, result.distance, 1e-9);
+    }
+
+    @Test
+    void testStructOfArraysDuplicatesAndInvalidInputs() {
+        ClosestPair.IndexPair result = closestPair.findClosestPair(new double[]{1, 4, 1}, new double[]{2, 6, 2});
+        assertEquals(0.0, result.distance, 1e-9);
+
+        assertThrows(IllegalArgumentException.class, () -> closestPair.findClosestPair(new double[]{1}, new double[]{1}));
+        assertThrows(IllegalArgumentException.class,
+            () -> closestPair.findClosestPair(new double[]{1, 2}, new double[]{1, 2, 3}));
+        assertThrows(IllegalArgumentException.class, () -> closestPair.findClosestPair(null, new double[]{1, 2}));
+    }
+
+    @Test
+    void testKernelsAgreeOnNearestIndex() {
+        Random random = new Random(17);
+        double[] xs = new double[67];
+        double[] ys = new double[67];
+        for (int i = 0; i < xs.length; i++) {
+            // A coarse lattice produces plenty of exact ties, which must resolve to the lowest index
+            xs[i] = random.nextInt(6);
+            ys[i] = random.nextInt(6);
+        }
+
+        DistanceKernel scalar = DistanceKernel.scalar();
+        DistanceKernel preferred = DistanceKernel.preferred();
+        for (int from = 0; from < xs.length; from++) {
+            for (int to = from; to <= xs.length; to += 3) {
+                assertEquals(scalar.nearest(xs, ys, 2.5, 1.0, from, to), preferred.nearest(xs, ys, 2.5, 1.0, from, to),
+                    "from=" + from + " to=" + to);
+            }
+        }
+        assertEquals(-1, scalar.nearest(xs, ys, 0, 0, 5, 5));
+    }
+
+    @Test
+    void testKernelsFindTheSamePairs() {
+        ClosestPair scalar = new ClosestPair(new MetricsCollector(), DistanceKernel.scalar());
+        ClosestPair preferred = new ClosestPair(new MetricsCollector(), DistanceKernel.preferred());
+        Random random = new Random(23);
+
+        for (int size : new int[]{2, 3, 5, 8, 9, 31, 500, 4000}) {
+            Point[] points = new Point[size];
+            for (int i = 0; i < size; i++) {
+                points[i] = new Point(random.nextDouble() * 100, random.nextDouble() * 100);
+            }
+
+            ClosestPair.PointPair expected = scalar.bruteForceClosestPair(points);
+            ClosestPair.PointPair brute = preferred.bruteForceClosestPair(points);
+            assertSame(expected.p1, brute.p1);
+            assertSame(expected.p2, brute.p2);
+            assertEquals(expected.distance, preferred.findClosestPair(points).distance, 1e-12);
+        }
+    }
+
+    @Test
+    void testPreferredKernelFollowsVectorModule() {
+        boolean vectorModule = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+        assertEquals(vectorModule, DistanceKernel.preferred() != DistanceKernel.scalar());
+    }
+}
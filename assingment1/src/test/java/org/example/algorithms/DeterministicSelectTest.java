@@ -159,4 +159,224 @@ class DeterministicSelectTest {
                 "Deterministic select should handle sorted arrays efficiently");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMultiRankSelect() {
+        Random random = new Random(42);
+        int[] array = new int[5000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(100000);
+        }
+
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        int[] ranks = {4999, 0, 2500, 4500, 4950, 4995, 2500};
+        int[] values = select.select(array, ranks);
+
+        for (int i = 0; i < ranks.length; i++) {
+            assertEquals(sorted[ranks[i]], values[i], "rank " + ranks[i]);
+            assertEquals(sorted[ranks[i]], array[ranks[i]], "rank " + ranks[i] + " should be in place");
+        }
+    }
+
+    @Test
+    void testMultiRankSelectDuplicates() {
+        int[] array = {5, 5, 5, 5, 5, 1, 1, 1, 9, 9, 3, 3, 7};
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        int[] ranks = new int[array.length];
+        for (int k = 0; k < ranks.length; k++) {
+            ranks[k] = k;
+        }
+
+        assertArrayEquals(sorted, select.select(array.clone(), ranks));
+    }
+
+    @Test
+    void testPercentiles() {
+        int[] latencies = new int[1000];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = latencies.length - i;
+        }
+
+        int[] result = select.percentiles(latencies, 50, 90, 99, 99.9, 0, 100);
+        assertArrayEquals(new int[]{500, 900, 990, 999, 1, 1000}, result);
+    }
+
+    @Test
+    void testPercentilesOnDuplicateHeavyInput() {
+        int[] allEqual = new int[100_000];
+        Arrays.fill(allEqual, 7);
+
+        metrics.reset();
+        assertArrayEquals(new int[]{7, 7, 7, 7}, select.percentiles(allEqual, 0, 50, 99.9, 100));
+        assertTrue(metrics.getComparisons() < 20L * allEqual.length, "comparisons=" + metrics.getComparisons());
+
+        Random random = new Random(11);
+        int[] fewDistinct = new int[100_000];
+        for (int i = 0; i < fewDistinct.length; i++) {
+            fewDistinct[i] = random.nextInt(3);
+        }
+        int[] sorted = fewDistinct.clone();
+        Arrays.sort(sorted);
+
+        metrics.reset();
+        int[] result = select.percentiles(fewDistinct, 1, 25, 50, 75, 99);
+        assertArrayEquals(new int[]{sorted[999], sorted[24_999], sorted[49_999], sorted[74_999], sorted[98_999]}, result);
+        assertTrue(metrics.getComparisons() < 20L * fewDistinct.length, "comparisons=" + metrics.getComparisons());
+        assertTrue(metrics.getMaxDepth() < 100, "depth=" + metrics.getMaxDepth());
+    }
+
+    @Test
+    void testMultiRankInvalidInputs() {
+        int[] array = {1, 2, 3};
+
+        assertThrows(IllegalArgumentException.class, () -> select.select(array, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> select.select(array, 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> select.select(array, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> select.percentiles(array, 101));
+        assertThrows(IllegalArgumentException.class, () -> select.percentiles(array, Double.NaN));
+    }
+
+    @Test
+    void testSelectInPlace() {
+        Random random = new Random(42);
+        int[] array = new int[2000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(500);
+        }
+
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        for (int k = 0; k < array.length; k += 97) {
+            assertEquals(sorted[k], select.selectInPlace(array.clone(), k), "k=" + k);
+        }
+        assertEquals(sorted[array.length - 1], select.selectInPlace(array.clone(), array.length - 1));
+    }
+
+    @Test
+    void testSelectInPlaceSortedAndSmallInputs() {
+        int[] sorted = new int[1000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+
+        for (int k = 0; k < sorted.length; k += 111) {
+            metrics.reset();
+            assertEquals(k, select.selectInPlace(sorted.clone(), k));
+            assertTrue(metrics.getMaxDepth() <= (int) (Math.log(sorted.length) * 10));
+        }
+
+        assertEquals(42, select.selectInPlace(new int[]{42}, 0));
+        assertEquals(3, select.selectInPlace(new int[]{3, 1, 4, 1, 5}, 2));
+        assertThrows(IllegalArgumentException.class, () -> select.selectInPlace(new int[]{1}, 1));
+    }
+
+    @Test
+    void testIntroSelect() {
+        Random random = new Random(42);
+        int[] array = new int[5000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(100000);
+        }
+
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        for (int k = 0; k < array.length; k += 250) {
+            assertEquals(sorted[k], select.introSelect(array.clone(), k), "k=" + k);
+        }
+    }
+
+    @Test
+    void testIntroSelectFallbackStaysCorrect() {
+        Random random = new Random(42);
+        long fallbacks = 0;
+
+        for (int trial = 0; trial < 500; trial++) {
+            int[] array = new int[60];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt(1000);
+            }
+            int k = random.nextInt(array.length);
+
+            int[] sorted = array.clone();
+            Arrays.sort(sorted);
+
+            metrics.reset();
+            assertEquals(sorted[k], select.introSelect(array, k));
+            fallbacks += metrics.getFallbacks();
+        }
+
+        assertTrue(fallbacks > 0, "Some unlucky median-of-3 partitions should trigger the fallback");
+    }
+
+    @Test
+    void testIntroSelectDuplicatesAreLinear() {
+        int[] array = new int[20000];
+        Arrays.fill(array, 7);
+        array[0] = 1;
+        array[19999] = 9;
+
+        metrics.reset();
+        assertEquals(7, select.introSelect(array.clone(), 10000));
+        assertTrue(metrics.getComparisons() < 10L * array.length);
+
+        metrics.reset();
+        assertEquals(7, select.selectInPlace(array.clone(), 10000));
+        assertTrue(metrics.getComparisons() < 20L * array.length);
+    }
+
+    @Test
+    void testFloydRivestSelect() {
+        Random random = new Random(42);
+        int[] array = new int[20000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt();
+        }
+
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        for (int k : new int[]{0, 1, 137, 10000, 19000, 19998, 19999}) {
+            assertEquals(sorted[k], select.floydRivestSelect(array.clone(), k), "k=" + k);
+        }
+    }
+
+    @Test
+    void testFloydRivestDuplicatesAndSmallInputs() {
+        Random random = new Random(7);
+        int[] array = new int[5000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(4);
+        }
+
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+
+        for (int k = 0; k < array.length; k += 499) {
+            assertEquals(sorted[k], select.floydRivestSelect(array.clone(), k));
+        }
+        assertEquals(42, select.floydRivestSelect(new int[]{42}, 0));
+        assertEquals(3, select.floydRivestSelect(new int[]{3, 1, 4, 1, 5}, 2));
+    }
+
+    @Test
+    void testFloydRivestUsesFewComparisons() {
+        Random random = new Random(42);
+        int[] array = new int[100000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt();
+        }
+
+        metrics.reset();
+        select.floydRivestSelect(array.clone(), array.length / 2);
+
+        // Expected about n + min(k, n - k) = 1.5n; allow slack for the sample recursion
+        assertTrue(metrics.getComparisons() < 2L * array.length,
+            String.format("Floyd-Rivest used %d comparisons", metrics.getComparisons()));
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DynamicClosestPairTest {
+    private MetricsCollector metrics;
+    private ClosestPair reference;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        reference = new ClosestPair(new MetricsCollector());
+    }
+
+    private Point[] randomPoints(int size, Random random) {
+        Point[] points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+        return points;
+    }
+
+    private double expectedDistance(List<Point> points) {
+        return reference.bruteForceClosestPair(points.toArray(new Point[0])).distance;
+    }
+
+    @Test
+    void testSeededStructureMatchesStaticAnswer() {
+        Point[] points = randomPoints(2000, new Random(1));
+        DynamicClosestPair dynamic = new DynamicClosestPair(points, metrics);
+
+        assertEquals(points.length, dynamic.size());
+        assertEquals(reference.findClosestPair(points).distance, dynamic.closest().distance, 1e-9);
+    }
+
+    @Test
+    void testRandomUpdatesMatchRecomputation() {
+        Random random = new Random(2);
+        List<Point> current = new ArrayList<>(List.of(randomPoints(300, random)));
+        DynamicClosestPair dynamic = new DynamicClosestPair(current.toArray(new Point[0]), metrics);
+
+        for (int step = 0; step < 2000; step++) {
+            if (current.size() > 2 && random.nextInt(3) == 0) {
+                Point removed = current.remove(random.nextInt(current.size()));
+                assertTrue(dynamic.remove(removed));
+            } else {
+                Point inserted = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+                current.add(inserted);
+                dynamic.insert(inserted);
+            }
+
+            assertEquals(current.size(), dynamic.size());
+            ClosestPair.PointPair pair = dynamic.closest();
+            assertEquals(expectedDistance(current), pair.distance, 1e-9, "step=" + step);
+        }
+    }
+
+    @Test
+    void testRemovingClosestPairRepeatedly() {
+        // Shrinking to nothing by always deleting an end of the current closest pair forces many rebuilds
+        Random random = new Random(3);
+        List<Point> current = new ArrayList<>(List.of(randomPoints(500, random)));
+        DynamicClosestPair dynamic = new DynamicClosestPair(current.toArray(new Point[0]), metrics);
+
+        while (current.size() > 2) {
+            ClosestPair.PointPair pair = dynamic.closest();
+            assertEquals(expectedDistance(current), pair.distance, 1e-9);
+            assertTrue(dynamic.remove(pair.p1));
+            current.remove(pair.p1);
+        }
+
+        assertTrue(dynamic.remove(current.get(0)));
+        assertThrows(IllegalStateException.class, dynamic::closest);
+        assertEquals(1, dynamic.size());
+    }
+
+    @Test
+    void testGrowingFromEmptyAndDuplicates() {
+        DynamicClosestPair dynamic = new DynamicClosestPair(new Point[0], metrics);
+        assertThrows(IllegalStateException.class, dynamic::closest);
+
+        dynamic.insert(new Point(0, 0));
+        dynamic.insert(new Point(10, 0));
+        assertEquals(10.0, dynamic.closest().distance, 1e-9);
+
+        dynamic.insert(new Point(10, 0));
+        assertEquals(0.0, dynamic.closest().distance, 0.0);
+
+        // Equal points are removed one at a time
+        assertTrue(dynamic.remove(new Point(10, 0)));
+        assertEquals(10.0, dynamic.closest().distance, 1e-9);
+        assertTrue(dynamic.remove(new Point(10, 0)));
+        assertFalse(dynamic.remove(new Point(10, 0)));
+        assertEquals(1, dynamic.size());
+    }
+
+    @Test
+    void testUpdatesAreCheaperThanRecomputation() {
+        Random random = new Random(4);
+        Point[] points = randomPoints(20_000, random);
+        DynamicClosestPair dynamic = new DynamicClosestPair(points, metrics);
+
+        metrics.reset();
+        for (int step = 0; step < 100; step++) {
+            int index = random.nextInt(points.length);
+            dynamic.remove(points[index]);
+            points[index] = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+            dynamic.insert(points[index]);
+            dynamic.closest();
+        }
+        long dynamicComparisons = metrics.getComparisons();
+
+        MetricsCollector recompute = new MetricsCollector();
+        new ClosestPair(recompute).findClosestPair(points);
+
+        // A hundred moves should cost far less than even one full recomputation
+        assertTrue(dynamicComparisons < recompute.getComparisons(),
+            "dynamic=" + dynamicComparisons + " recompute=" + recompute.getComparisons());
+    }
+
+    @Test
+    void testInvalidInputs() {
+        DynamicClosestPair dynamic = new DynamicClosestPair(new Point[]{new Point(1, 1)}, metrics);
+        assertThrows(IllegalArgumentException.class, () -> new DynamicClosestPair(null, metrics));
+        assertThrows(IllegalArgumentException.class,
+            () -> new DynamicClosestPair(new Point[]{new Point(0, 0), null}, metrics));
+        assertThrows(IllegalArgumentException.class, () -> dynamic.insert(null));
+        assertFalse(dynamic.remove(null));
+        assertFalse(dynamic.remove(new Point(2, 2)));
+    }
+}
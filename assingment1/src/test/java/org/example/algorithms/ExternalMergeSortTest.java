@@ -0,0 +1,137 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExternalMergeSortTest {
+    private MetricsCollector metrics;
+    private ExternalMergeSort externalSort;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        externalSort = new ExternalMergeSort(metrics);
+    }
+
+    private Path writeInts(String name, int[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES);
+        buffer.asIntBuffer().put(values);
+        Path file = tempDir.resolve(name);
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    private int[] readInts(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        int[] values = new int[buffer.remaining() / Integer.BYTES];
+        buffer.asIntBuffer().get(values);
+        return values;
+    }
+
+    @Test
+    void testManyRuns() throws IOException {
+        Random random = new Random(42);
+        int[] values = new int[50000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+
+        Path input = writeInts("input.bin", values);
+        Path output = tempDir.resolve("output.bin");
+
+        externalSort.sort(input, output, 16 * 1024);
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        assertTrue(metrics.getRuns() > 1);
+    }
+
+    @Test
+    void testSingleRunAndDuplicates() throws IOException {
+        int[] values = {5, -3, 5, 0, Integer.MIN_VALUE, 5, Integer.MAX_VALUE, -3};
+        Path input = writeInts("small.bin", values);
+        Path output = tempDir.resolve("small-sorted.bin");
+
+        externalSort.sort(input, output, 1024 * 1024);
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        assertEquals(1, metrics.getRuns());
+    }
+
+    @Test
+    void testEmptyInput() throws IOException {
+        Path input = writeInts("empty.bin", new int[0]);
+        Path output = tempDir.resolve("empty-sorted.bin");
+
+        externalSort.sort(input, output, 1024 * 1024);
+
+        assertEquals(0, Files.size(output));
+    }
+
+    @Test
+    void testRunFilesAreRemoved() throws IOException {
+        Path input = writeInts("input.bin", new int[]{3, 2, 1});
+        Path output = tempDir.resolve("output.bin");
+
+        externalSort.sort(input, output, 1024 * 1024);
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void testMultiPassMergeStaysWithinBudget() throws IOException {
+        // Over a hundred runs at the minimum budget force several merge passes of at most three runs each
+        Random random = new Random(8);
+        int[] values = new int[200_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1000);
+        }
+
+        Path input = writeInts("input.bin", values);
+        Path output = tempDir.resolve("output.bin");
+        externalSort.sort(input, output, 16 * 1024);
+
+        int[] expected = values.clone();
+        Arrays.sort(expected);
+        assertArrayEquals(expected, readInts(output));
+        assertTrue(metrics.getRuns() > ExternalMergeSort.maxFanIn(16 * 1024) * 10);
+        try (var files = Files.list(tempDir)) {
+            assertEquals(2, files.count());
+        }
+
+        for (long memory : new long[]{16 * 1024, 100_000, 1 << 20, 1L << 40}) {
+            int fanIn = ExternalMergeSort.maxFanIn(memory);
+            assertTrue(fanIn >= 2);
+            assertTrue((fanIn + 1L) * 4096 <= memory, "memory=" + memory + " fanIn=" + fanIn);
+        }
+    }
+
+    @Test
+    void testInvalidInputs() throws IOException {
+        Path misaligned = tempDir.resolve("misaligned.bin");
+        Files.write(misaligned, new byte[]{1, 2, 3});
+        Path output = tempDir.resolve("out.bin");
+
+        assertThrows(IllegalArgumentException.class, () -> externalSort.sort(misaligned, output, 1024 * 1024));
+        assertThrows(IllegalArgumentException.class, () -> externalSort.sort(misaligned, output, 1024));
+    }
+}
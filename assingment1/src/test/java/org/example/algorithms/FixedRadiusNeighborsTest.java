@@ -0,0 +1,161 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixedRadiusNeighborsTest {
+    private MetricsCollector metrics;
+    private ForkJoinPool pool;
+    private FixedRadiusNeighbors neighbors;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        pool = new ForkJoinPool(4);
+        neighbors = new FixedRadiusNeighbors(metrics, pool, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private Point[] randomPoints(int size, double extent, long seed) {
+        Random random = new Random(seed);
+        Point[] points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new Point(random.nextDouble() * extent - extent / 2, random.nextDouble() * extent - extent / 2);
+        }
+        return points;
+    }
+
+    private Set<Long> collectPairs(Point[] points, double radius) {
+        Set<Long> pairs = ConcurrentHashMap.newKeySet();
+        neighbors.forEachPairWithin(points, radius, (first, second, distance) -> {
+            assertTrue(first < second);
+            assertEquals(points[first].distanceTo(points[second]), distance, 1e-9);
+            assertTrue(pairs.add((long) first * points.length + second), "pair reported twice");
+        });
+        return pairs;
+    }
+
+    private Set<Long> bruteForcePairs(Point[] points, double radius) {
+        Set<Long> pairs = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < points.length; i++) {
+            for (int j = i + 1; j < points.length; j++) {
+                if (points[i].distanceSquaredTo(points[j]) <= radius * radius) {
+                    pairs.add((long) i * points.length + j);
+                }
+            }
+        }
+        return pairs;
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        for (int size : new int[]{2, 3, 50, 1000, 3000}) {
+            Point[] points = randomPoints(size, 1000, size);
+            for (double radius : new double[]{0.5, 10, 75, 2000}) {
+                assertEquals(bruteForcePairs(points, radius), collectPairs(points, radius),
+                    "size=" + size + " radius=" + radius);
+            }
+        }
+    }
+
+    @Test
+    void testPairsAtExactlyTheRadius() {
+        // Lattice points sit on cell boundaries and have their horizontal and vertical neighbours at distance 1
+        Point[] points = new Point[400];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new Point(i % 20, i / 20);
+        }
+        assertEquals(2 * 20 * 19, collectPairs(points, 1.0).size());
+        assertEquals(bruteForcePairs(points, Math.sqrt(2)), collectPairs(points, Math.sqrt(2)));
+    }
+
+    @Test
+    void testDuplicatesAndTinyRadiusOverWideExtent() {
+        Point[] points = randomPoints(2000, 1e12, 5);
+        points[1500] = points[700];
+        points[1800] = new Point(points[700].x + 1e-7, points[700].y);
+
+        Set<Long> pairs = collectPairs(points, 1e-6);
+        assertEquals(bruteForcePairs(points, 1e-6), pairs);
+        assertEquals(3, pairs.size());
+    }
+
+    @Test
+    void testMetricsReportExaminedAndEmittedPairs() {
+        Point[] points = randomPoints(20_000, 1000, 8);
+        AtomicLong emitted = new AtomicLong();
+        neighbors.forEachPairWithin(points, 5, (first, second, distance) -> emitted.incrementAndGet());
+
+        assertEquals(emitted.get(), metrics.getMatches());
+        assertTrue(metrics.getComparisons() >= metrics.getMatches());
+        // The grid only examines nearby cells, a tiny fraction of all n^2 / 2 pairs
+        assertTrue(metrics.getComparisons() < 20L * points.length * 10, "examined=" + metrics.getComparisons());
+    }
+
+    @Test
+    void testComparisonsCountOnlyDistanceChecks() {
+        // A radius wider than the extent puts every point in one cell, so exactly every pair is checked once
+        Point[] points = randomPoints(500, 1, 12);
+        AtomicLong emitted = new AtomicLong();
+        neighbors.forEachPairWithin(points, 10, (first, second, distance) -> emitted.incrementAndGet());
+        assertEquals(500L * 499 / 2, metrics.getComparisons());
+        assertEquals(emitted.get(), metrics.getMatches());
+
+        // Cell-order sorting depends on input order, the distance checks do not
+        Point[] shuffled = randomPoints(20_000, 1000, 13);
+        Point[] presorted = shuffled.clone();
+        Arrays.sort(presorted, Comparator.comparingDouble((Point p) -> p.y).thenComparingDouble(p -> p.x));
+
+        metrics.reset();
+        neighbors.forEachPairWithin(shuffled, 5, (first, second, distance) -> { });
+        long shuffledComparisons = metrics.getComparisons();
+        metrics.reset();
+        neighbors.forEachPairWithin(presorted, 5, (first, second, distance) -> { });
+        assertEquals(shuffledComparisons, metrics.getComparisons());
+        assertTrue(metrics.getComparisons() >= metrics.getMatches());
+    }
+
+    @Test
+    void testCoordinateArraysAndSmallInputs() {
+        double[] xs = {0, 3, 0, 10};
+        double[] ys = {0, 4, 1, 10};
+        Set<Long> pairs = ConcurrentHashMap.newKeySet();
+        new FixedRadiusNeighbors(metrics).forEachPairWithin(xs, ys, 5, (first, second, distance) ->
+            pairs.add((long) first * 4 + second));
+        assertEquals(Set.of(1L, 2L, 6L), pairs);
+
+        neighbors.forEachPairWithin(new double[]{1}, new double[]{1}, 1, (first, second, distance) -> fail());
+        neighbors.forEachPairWithin(new double[0], new double[0], 1, (first, second, distance) -> fail());
+    }
+
+    @Test
+    void testInvalidInputs() {
+        FixedRadiusNeighbors.PairConsumer ignore = (first, second, distance) -> { };
+        assertThrows(IllegalArgumentException.class, () -> neighbors.forEachPairWithin((Point[]) null, 1, ignore));
+        assertThrows(IllegalArgumentException.class,
+            () -> neighbors.forEachPairWithin(new double[]{1, 2}, new double[]{1}, 1, ignore));
+        assertThrows(IllegalArgumentException.class,
+            () -> neighbors.forEachPairWithin(new double[]{1, 2}, new double[]{1, 2}, 0, ignore));
+        assertThrows(IllegalArgumentException.class,
+            () -> neighbors.forEachPairWithin(new double[]{1, 2}, new double[]{1, 2}, Double.NaN, ignore));
+        assertThrows(IllegalArgumentException.class,
+            () -> neighbors.forEachPairWithin(new double[]{1, 2}, new double[]{1, 2}, 1, null));
+        assertThrows(IllegalArgumentException.class, () -> new FixedRadiusNeighbors(metrics, pool, 0));
+    }
+}
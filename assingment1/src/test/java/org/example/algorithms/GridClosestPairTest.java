@@ -0,0 +1,129 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridClosestPairTest {
+    private MetricsCollector metrics;
+    private GridClosestPair gridClosestPair;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        gridClosestPair = new GridClosestPair(metrics, 42);
+    }
+
+    private Point[] randomPoints(int size, double extent, long seed) {
+        Random random = new Random(seed);
+        Point[] points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new Point(random.nextDouble() * extent - extent / 2, random.nextDouble() * extent - extent / 2);
+        }
+        return points;
+    }
+
+    @Test
+    void testTwoAndThreePoints() {
+        assertEquals(5.0, gridClosestPair.findClosestPair(new Point[]{new Point(0, 0), new Point(3, 4)}).distance,
+            1e-9);
+
+        Point[] points = {new Point(0, 0), new Point(1, 0), new Point(5, 5)};
+        assertEquals(1.0, gridClosestPair.findClosestPair(points).distance, 1e-9);
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        ClosestPair reference = new ClosestPair(new MetricsCollector());
+        for (int size : new int[]{2, 3, 4, 10, 100, 1000, 3000}) {
+            for (long seed = 0; seed < 3; seed++) {
+                Point[] points = randomPoints(size, 1000, size * 31 + seed);
+                ClosestPair.PointPair expected = reference.bruteForceClosestPair(points);
+                ClosestPair.PointPair result = new GridClosestPair(new MetricsCollector(), seed)
+                    .findClosestPair(points);
+                assertEquals(expected.distance, result.distance, 1e-9, "size=" + size + " seed=" + seed);
+            }
+        }
+    }
+
+    @Test
+    void testLargeInputMatchesDivideAndConquer() {
+        Point[] points = randomPoints(200_000, 1e6, 9);
+        ClosestPair.PointPair expected = new ClosestPair(new MetricsCollector()).findClosestPair(points);
+        assertEquals(expected.distance, gridClosestPair.findClosestPair(points).distance, 1e-9);
+    }
+
+    @Test
+    void testClusteredAndTinyScales() {
+        // Most points far apart with one tight cluster forces several rebuilds with very different cell sizes
+        Point[] points = randomPoints(2000, 1e9, 4);
+        points[10] = new Point(1e-3, 1e-3);
+        points[20] = new Point(1e-3 + 1e-9, 1e-3);
+        points[30] = new Point(1e-3, 1e-3 + 4e-9);
+
+        ClosestPair.PointPair expected = new ClosestPair(new MetricsCollector()).bruteForceClosestPair(points);
+        ClosestPair.PointPair result = gridClosestPair.findClosestPair(points);
+        assertEquals(expected.distance, result.distance, 1e-15);
+    }
+
+    @Test
+    void testTinyDistanceOverWideExtent() {
+        // Cells as wide as 1e-150 would number 1e160 at the far points, far past the long range
+        Point[] points = new Point[50];
+        for (int i = 0; i < 48; i++) {
+            points[i] = new Point(i * 1e-150, 0);
+        }
+        points[48] = new Point(1e10, -1e10);
+        points[49] = new Point(1e10, -1e10);
+
+        for (long seed = 0; seed < 20; seed++) {
+            assertEquals(0.0, new GridClosestPair(metrics, seed).findClosestPair(points).distance, "seed=" + seed);
+        }
+
+        points[49] = new Point(-1e10, 1e10);
+        assertEquals(1e-150, gridClosestPair.findClosestPair(points).distance, 1e-160);
+    }
+
+    @Test
+    void testDuplicatesAndCollinearPoints() {
+        Point[] duplicates = randomPoints(500, 100, 6);
+        duplicates[300] = duplicates[200];
+        assertEquals(0.0, gridClosestPair.findClosestPair(duplicates).distance, 1e-9);
+
+        double[] xs = new double[1000];
+        double[] ys = new double[1000];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = 2.5 * i;
+            ys[i] = -3.0;
+        }
+        ClosestPair.IndexPair pair = gridClosestPair.findClosestPair(xs, ys);
+        assertEquals(2.5, pair.distance, 1e-9);
+        assertEquals(1, Math.abs(pair.first - pair.second));
+    }
+
+    @Test
+    void testComparisonsGrowLinearly() {
+        gridClosestPair.findClosestPair(randomPoints(20_000, 1000, 1));
+        long small = metrics.getComparisons();
+
+        metrics.reset();
+        gridClosestPair.findClosestPair(randomPoints(200_000, 1000, 1));
+        long large = metrics.getComparisons();
+
+        // Ten times the points should cost roughly ten times the distance checks, far below n log n growth
+        assertTrue(large < 20 * small, "small=" + small + " large=" + large);
+    }
+
+    @Test
+    void testInvalidInputs() {
+        assertThrows(IllegalArgumentException.class, () -> gridClosestPair.findClosestPair((Point[]) null));
+        assertThrows(IllegalArgumentException.class,
+            () -> gridClosestPair.findClosestPair(new Point[]{new Point(1, 1)}));
+        assertThrows(IllegalArgumentException.class,
+            () -> gridClosestPair.findClosestPair(new double[]{1, 2, 3}, new double[]{1, 2}));
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KdTreeTest {
+    private MetricsCollector metrics;
+    private Point[] points;
+    private KdTree tree;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        points = randomPoints(5000, 1);
+        tree = new KdTree(points, metrics);
+    }
+
+    private Point[] randomPoints(int size, long seed) {
+        Random random = new Random(seed);
+        Point[] result = new Point[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+        return result;
+    }
+
+    private double bruteForceNearest(Point[] points, double x, double y) {
+        double best = Double.POSITIVE_INFINITY;
+        for (Point point : points) {
+            best = Math.min(best, Math.hypot(point.x - x, point.y - y));
+        }
+        return best;
+    }
+
+    @Test
+    void testNearestMatchesBruteForce() {
+        Random random = new Random(2);
+        for (int i = 0; i < 500; i++) {
+            double x = random.nextDouble() * 1200 - 100;
+            double y = random.nextDouble() * 1200 - 100;
+            int nearest = tree.nearest(x, y);
+            assertEquals(bruteForceNearest(points, x, y), Math.hypot(points[nearest].x - x, points[nearest].y - y),
+                1e-9);
+        }
+        assertEquals(points.length, tree.size());
+    }
+
+    @Test
+    void testKNearestIsSortedAndMatchesBruteForce() {
+        double x = 500;
+        double y = 500;
+        int[] nearest = tree.nearest(x, y, 25);
+        assertEquals(25, nearest.length);
+
+        double[] expected = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            expected[i] = Math.hypot(points[i].x - x, points[i].y - y);
+        }
+        Arrays.sort(expected);
+
+        for (int i = 0; i < nearest.length; i++) {
+            assertEquals(expected[i], Math.hypot(points[nearest[i]].x - x, points[nearest[i]].y - y), 1e-9);
+        }
+
+        // Asking for more neighbours than points returns every point
+        KdTree small = new KdTree(randomPoints(5, 3), new MetricsCollector());
+        assertEquals(5, small.nearest(0, 0, 10).length);
+    }
+
+    @Test
+    void testRadiusAndRectangleMatchBruteForce() {
+        Random random = new Random(4);
+        for (int query = 0; query < 50; query++) {
+            double x = random.nextDouble() * 1000;
+            double y = random.nextDouble() * 1000;
+            double radius = random.nextDouble() * 100;
+            double minX = x - radius;
+            double maxX = x + radius / 2;
+            double minY = y - radius / 3;
+            double maxY = y + radius;
+
+            List<Integer> inRadius = new ArrayList<>();
+            List<Integer> inRectangle = new ArrayList<>();
+            for (int i = 0; i < points.length; i++) {
+                if (Math.hypot(points[i].x - x, points[i].y - y) <= radius) {
+                    inRadius.add(i);
+                }
+                if (points[i].x >= minX && points[i].x <= maxX && points[i].y >= minY && points[i].y <= maxY) {
+                    inRectangle.add(i);
+                }
+            }
+
+            int[] radiusResult = tree.withinRadius(x, y, radius);
+            Arrays.sort(radiusResult);
+            assertArrayEquals(inRadius.stream().mapToInt(Integer::intValue).toArray(), radiusResult);
+
+            int[] rectangleResult = tree.inRectangle(minX, minY, maxX, maxY);
+            Arrays.sort(rectangleResult);
+            assertArrayEquals(inRectangle.stream().mapToInt(Integer::intValue).toArray(), rectangleResult);
+        }
+    }
+
+    @Test
+    void testDuplicatesAndDegenerateLayouts() {
+        Point[] line = new Point[1000];
+        for (int i = 0; i < line.length; i++) {
+            line[i] = new Point(3.0, i % 10);
+        }
+        KdTree lineTree = new KdTree(line, new MetricsCollector());
+        assertEquals(100, lineTree.withinRadius(3.0, 4.0, 0).length);
+        assertEquals(300, lineTree.inRectangle(2, 4, 4, 6).length);
+        assertEquals(0.0, line[lineTree.nearest(3.0, 7.0)].distanceTo(new Point(3.0, 7.0)), 0.0);
+
+        KdTree single = new KdTree(new Point[]{new Point(1, 1)}, new MetricsCollector());
+        assertEquals(0, single.nearest(50, -50));
+        assertEquals(0, single.inRectangle(5, 5, 6, 6).length);
+    }
+
+    @Test
+    void testParallelBuildMatchesQueriesFromManyThreads() throws Exception {
+        Point[] large = randomPoints(200_000, 5);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        MetricsCollector buildMetrics = new MetricsCollector();
+        KdTree largeTree;
+        try {
+            largeTree = new KdTree(large, buildMetrics, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(buildMetrics.getComparisons() > large.length);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                long seed = thread;
+                futures.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int i = 0; i < 50; i++) {
+                        double x = random.nextDouble() * 1000;
+                        double y = random.nextDouble() * 1000;
+                        int nearest = largeTree.nearest(x, y);
+                        double distance = Math.hypot(large[nearest].x - x, large[nearest].y - y);
+                        if (Math.abs(distance - bruteForceNearest(large, x, y)) > 1e-9) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testInvalidInputs() {
+        assertThrows(IllegalArgumentException.class, () -> new KdTree(null, metrics));
+        assertThrows(IllegalArgumentException.class, () -> new KdTree(new Point[0], metrics));
+        assertThrows(IllegalArgumentException.class, () -> tree.nearest(0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> tree.withinRadius(0, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> tree.inRectangle(5, 0, 4, 1));
+    }
+}
@@ -1,10 +1,12 @@
 package org.example.algorithms;
 
 import org.example.metrics.MetricsCollector;
+import org.example.utils.ArrayUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -95,4 +97,157 @@ class MergeSortTest {
             String.format("Recursion depth %d should be close to log(n)=%d",
                 metrics.getMaxDepth(), expectedMaxDepth));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testNoOpMetricsCollector() {
+        Random random = new Random(42);
+        int[] array = new int[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(1000);
+        }
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        MetricsCollector noOp = MetricsCollector.noOp();
+        new MergeSort(noOp).sort(array);
+
+        assertArrayEquals(expected, array);
+        assertEquals(0, noOp.getComparisons());
+        assertEquals(0, noOp.getSwaps());
+        assertEquals(0, noOp.getMaxDepth());
+    }
+
+    @Test
+    void testNaturalSortRandom() {
+        Random random = new Random(42);
+        for (int n : new int[]{2, 31, 32, 33, 100, 1000, 5000}) {
+            int[] array = new int[n];
+            for (int i = 0; i < n; i++) {
+                array[i] = random.nextInt(n);
+            }
+
+            int[] expected = array.clone();
+            Arrays.sort(expected);
+
+            mergeSort.naturalSort(array);
+            assertArrayEquals(expected, array, "n=" + n);
+        }
+    }
+
+    @Test
+    void testNaturalSortSingleRun() {
+        int[] sorted = new int[1000];
+        int[] reverse = new int[1000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reverse[i] = reverse.length - i;
+        }
+
+        mergeSort.naturalSort(sorted);
+        assertEquals(sorted.length - 1, metrics.getComparisons());
+        assertEquals(1, metrics.getRuns());
+
+        metrics.reset();
+        mergeSort.naturalSort(reverse);
+        assertTrue(ArrayUtils.isSorted(reverse));
+        assertEquals(1, metrics.getRuns());
+    }
+
+    @Test
+    void testNaturalSortNearlySortedGallops() {
+        Random random = new Random(42);
+        int n = 10000;
+        int[] array = new int[n];
+        for (int i = 0; i < n; i++) {
+            array[i] = i * 10;
+        }
+        for (int i = n - 100; i < n; i++) {
+            array[i] = random.nextInt(n * 10);
+        }
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        mergeSort.naturalSort(array);
+
+        assertArrayEquals(expected, array);
+        assertTrue(metrics.getRuns() > 1);
+        assertTrue(metrics.getGallops() > 0);
+        assertTrue(metrics.getComparisons() < 2L * n,
+            String.format("Nearly sorted input took %d comparisons", metrics.getComparisons()));
+    }
+
+    @Test
+    void testNaturalSortDescendingRunsWithDuplicates() {
+        int[] array = {9, 7, 7, 5, 1, 2, 3, 3, 8, 6, 6, 4, 0};
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        mergeSort.naturalSort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testSortLongArray() {
+        Random random = new Random(42);
+        long[] array = new long[2000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextLong();
+        }
+        array[0] = Long.MIN_VALUE;
+        array[1] = Long.MAX_VALUE;
+
+        long[] expected = array.clone();
+        Arrays.sort(expected);
+
+        mergeSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testSortDoubleArraySpecialValues() {
+        double[] array = {3.5, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, -2.25, 0.0, -0.0,
+            Double.POSITIVE_INFINITY, Double.MIN_VALUE, -Double.MAX_VALUE, Double.NaN, 1e-300};
+
+        double[] expected = array.clone();
+        Arrays.sort(expected);
+
+        mergeSort.sort(array);
+
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(0, Double.compare(expected[i], array[i]), "Mismatch at index " + i);
+        }
+    }
+
+    @Test
+    void testSortByKeyIsStable() {
+        Point[] points = new Point[500];
+        Random random = new Random(42);
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new Point(random.nextInt(20), i);
+        }
+
+        Point[] expected = points.clone();
+        Arrays.sort(expected, Comparator.comparingDouble(p -> p.x));
+
+        mergeSort.sortByDoubleKey(points, p -> p.x);
+        assertArrayEquals(expected, points);
+
+        Integer[] values = {5, -3, 9, 0, -3, 7};
+        mergeSort.sortByLongKey(values, v -> v);
+        assertArrayEquals(new Integer[]{-3, -3, 0, 5, 7, 9}, values);
+    }
+
+    @Test
+    void testSortIndicesByDoubleKey() {
+        double[] keys = {3.5, -1.0, 3.5, 0.0, -0.0, 2.25, -7.5};
+        int[] indices = {0, 1, 2, 3, 4, 5, 6};
+
+        mergeSort.sortIndicesByDoubleKey(indices, keys);
+
+        // Stable: the two 3.5 keys keep their original order, and -0.0 sorts before 0.0
+        assertArrayEquals(new int[]{6, 1, 4, 3, 5, 0, 2}, indices);
+        assertArrayEquals(new double[]{3.5, -1.0, 3.5, 0.0, -0.0, 2.25, -7.5}, keys);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelClosestPairTest {
+    private MetricsCollector metrics;
+    private ForkJoinPool pool;
+    private ParallelClosestPair parallelClosestPair;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        pool = new ForkJoinPool(4);
+        parallelClosestPair = new ParallelClosestPair(metrics, pool, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private Point[] randomPoints(int size, long seed) {
+        Random random = new Random(seed);
+        Point[] points = new Point[size];
+        for (int i = 0; i < size; i++) {
+            points[i] = new Point(random.nextDouble() * 1000, random.nextDouble() * 1000);
+        }
+        return points;
+    }
+
+    @Test
+    void testTwoPoints() {
+        Point[] points = {new Point(0, 0), new Point(3, 4)};
+        assertEquals(5.0, parallelClosestPair.findClosestPair(points).distance, 1e-9);
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        ClosestPair sequential = new ClosestPair(new MetricsCollector());
+        for (int size : new int[]{2, 3, 5, 8, 33, 500, 2000}) {
+            Point[] points = randomPoints(size, size);
+            ClosestPair.PointPair expected = sequential.bruteForceClosestPair(points);
+            ClosestPair.PointPair result = parallelClosestPair.findClosestPair(points);
+            assertEquals(expected.distance, result.distance, 1e-9, "size=" + size);
+        }
+    }
+
+    @Test
+    void testLargeInputMatchesSequentialEngine() {
+        Point[] points = randomPoints(200_000, 11);
+        double[] xs = new double[points.length];
+        double[] ys = new double[points.length];
+        for (int i = 0; i < points.length; i++) {
+            xs[i] = points[i].x;
+            ys[i] = points[i].y;
+        }
+
+        ParallelClosestPair defaultCutoff = new ParallelClosestPair(new MetricsCollector(), pool);
+        ClosestPair.IndexPair expected = new ClosestPair(new MetricsCollector()).findClosestPair(xs, ys);
+        ClosestPair.IndexPair result = defaultCutoff.findClosestPair(xs, ys);
+
+        assertEquals(expected.distance, result.distance, 0.0);
+        assertEquals(result.distance, points[result.first].distanceTo(points[result.second]), 1e-12);
+    }
+
+    @Test
+    void testVerticalLineAndDuplicates() {
+        Point[] line = new Point[1000];
+        for (int i = 0; i < line.length; i++) {
+            line[i] = new Point(7.0, 3.0 * i);
+        }
+        assertEquals(3.0, parallelClosestPair.findClosestPair(line).distance, 1e-9);
+
+        Point[] duplicates = randomPoints(1000, 5);
+        duplicates[900] = duplicates[17];
+        assertEquals(0.0, parallelClosestPair.findClosestPair(duplicates).distance, 1e-9);
+    }
+
+    @Test
+    void testMetricsAreMergedFromTasks() {
+        Point[] points = randomPoints(5000, 3);
+        parallelClosestPair.findClosestPair(points);
+
+        // Every point is compared at least once in its leaf and again in each strip filter above it
+        assertTrue(metrics.getComparisons() >= points.length);
+        assertTrue(metrics.getMaxDepth() > 1);
+    }
+
+    @Test
+    void testInvalidInputs() {
+        assertThrows(IllegalArgumentException.class, () -> parallelClosestPair.findClosestPair((Point[]) null));
+        assertThrows(IllegalArgumentException.class,
+            () -> parallelClosestPair.findClosestPair(new Point[]{new Point(0, 0)}));
+        assertThrows(IllegalArgumentException.class,
+            () -> parallelClosestPair.findClosestPair(new double[]{1, 2}, new double[]{1}));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelClosestPair(metrics, pool, 3));
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.example.utils.ArrayUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMergeSortTest {
+    private MetricsCollector metrics;
+    private ForkJoinPool pool;
+    private ParallelMergeSort parallelMergeSort;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        pool = new ForkJoinPool(4);
+        // Small cutoffs so that even modest inputs exercise the forked sort and merge paths
+        parallelMergeSort = new ParallelMergeSort(metrics, pool, 16, 32);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testEmptyAndSingleElement() {
+        int[] empty = {};
+        parallelMergeSort.sort(empty);
+        assertEquals(0, empty.length);
+
+        int[] single = {42};
+        parallelMergeSort.sort(single);
+        assertArrayEquals(new int[]{42}, single);
+    }
+
+    @Test
+    void testRandomArray() {
+        Random random = new Random(42);
+        int[] array = new int[10000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt();
+        }
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        parallelMergeSort.sort(array);
+
+        assertArrayEquals(expected, array);
+        assertTrue(metrics.getComparisons() > 0);
+        assertTrue(metrics.getMaxDepth() > 0);
+    }
+
+    @Test
+    void testDuplicateHeavyArray() {
+        Random random = new Random(7);
+        int[] array = new int[5000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(5);
+        }
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        parallelMergeSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testSortedAndReverseSorted() {
+        int[] sorted = new int[3000];
+        int[] reverse = new int[3000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reverse[i] = reverse.length - i;
+        }
+
+        parallelMergeSort.sort(sorted);
+        parallelMergeSort.sort(reverse);
+
+        assertTrue(ArrayUtils.isSorted(sorted));
+        assertTrue(ArrayUtils.isSorted(reverse));
+    }
+
+    @Test
+    void testMatchesSequentialComparisonsOnSortedInput() {
+        int[] array = new int[4096];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+
+        MetricsCollector sequentialMetrics = new MetricsCollector();
+        new MergeSort(sequentialMetrics).sort(array.clone());
+        parallelMergeSort.sort(array);
+
+        assertEquals(sequentialMetrics.getComparisons(), metrics.getComparisons());
+    }
+
+    @Test
+    void testInvalidCutoffs() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSort(metrics, pool, 1, 32));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelMergeSort(metrics, pool, 16, 0));
+    }
+}
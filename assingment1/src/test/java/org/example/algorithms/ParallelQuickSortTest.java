@@ -0,0 +1,132 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.example.utils.ArrayUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelQuickSortTest {
+    private MetricsCollector metrics;
+    private ForkJoinPool pool;
+    private ParallelQuickSort parallelQuickSort;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        pool = new ForkJoinPool(4);
+        parallelQuickSort = new ParallelQuickSort(metrics, 42, pool, 32);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private int[] randomArray(int size, int bound, long seed) {
+        Random random = new Random(seed);
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(bound);
+        }
+        return array;
+    }
+
+    @Test
+    void testEmptyAndSingleElement() {
+        int[] empty = {};
+        parallelQuickSort.sort(empty);
+        assertEquals(0, empty.length);
+
+        int[] single = {42};
+        parallelQuickSort.sort(single);
+        assertArrayEquals(new int[]{42}, single);
+    }
+
+    @Test
+    void testRandomArray() {
+        int[] array = randomArray(20000, Integer.MAX_VALUE, 42);
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        parallelQuickSort.sort(array);
+
+        assertArrayEquals(expected, array);
+        assertTrue(metrics.getComparisons() > 0);
+        assertTrue(metrics.getMaxDepth() > 0);
+    }
+
+    @Test
+    void testDuplicateHeavyAndSortedInputs() {
+        int[] duplicates = randomArray(20000, 3, 7);
+        int[] sorted = new int[20000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+
+        parallelQuickSort.sort(duplicates);
+        parallelQuickSort.sort(sorted);
+
+        assertTrue(ArrayUtils.isSorted(duplicates));
+        assertTrue(ArrayUtils.isSorted(sorted));
+    }
+
+    @Test
+    void testSeededSortIsReproducibleAcrossPools() {
+        int[] array = randomArray(20000, 1000, 42);
+
+        MetricsCollector first = new MetricsCollector();
+        new ParallelQuickSort(first, 99, pool, 32).sort(array.clone());
+
+        ForkJoinPool singleThread = new ForkJoinPool(1);
+        MetricsCollector second = new MetricsCollector();
+        try {
+            new ParallelQuickSort(second, 99, singleThread, 32).sort(array.clone());
+        } finally {
+            singleThread.shutdown();
+        }
+
+        assertEquals(first.getComparisons(), second.getComparisons());
+        assertEquals(first.getSwaps(), second.getSwaps());
+        assertEquals(first.getMaxDepth(), second.getMaxDepth());
+    }
+
+    @Test
+    void testSharedInstanceAcrossThreads() throws Exception {
+        ParallelQuickSort shared = new ParallelQuickSort(MetricsCollector.noOp(), 5, pool, 32);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int[] array = randomArray(10000, 500, t);
+                results.add(callers.submit(() -> {
+                    shared.sort(array);
+                    return array;
+                }));
+            }
+
+            for (Future<int[]> result : results) {
+                assertTrue(ArrayUtils.isSorted(result.get()));
+            }
+        } finally {
+            callers.shutdown();
+        }
+    }
+
+    @Test
+    void testInvalidCutoff() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelQuickSort(metrics, 1, pool, 1));
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSelectTest {
+    private MetricsCollector metrics;
+    private ForkJoinPool pool;
+    private ParallelSelect parallelSelect;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        pool = new ForkJoinPool(4);
+        parallelSelect = new ParallelSelect(metrics, 42, pool, 64);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private int[] randomArray(int size, int bound, long seed) {
+        Random random = new Random(seed);
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = bound == Integer.MAX_VALUE ? random.nextInt() : random.nextInt(bound);
+        }
+        return array;
+    }
+
+    private void assertSelectsLikeSort(int[] array, int... ranks) {
+        int[] sorted = array.clone();
+        Arrays.sort(sorted);
+        for (int k : ranks) {
+            assertEquals(sorted[k], parallelSelect.select(array, k), "k=" + k);
+        }
+    }
+
+    @Test
+    void testSmallArrays() {
+        assertEquals(42, parallelSelect.select(new int[]{42}, 0));
+        assertSelectsLikeSort(new int[]{3, 1, 4, 1, 5}, 0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void testLargeRandomArray() {
+        int[] array = randomArray(300_000, Integer.MAX_VALUE, 1);
+        assertSelectsLikeSort(array, 0, 1, 150_000, 299_000, 299_999);
+    }
+
+    @Test
+    void testFewUniqueAndAllEqual() {
+        assertSelectsLikeSort(randomArray(200_000, 3, 2), 0, 66_000, 100_000, 199_999);
+
+        int[] allEqual = new int[200_000];
+        Arrays.fill(allEqual, 7);
+        assertSelectsLikeSort(allEqual, 0, 100_000, 199_999);
+    }
+
+    @Test
+    void testSortedAndReverseArrays() {
+        int[] sorted = new int[200_000];
+        int[] reverse = new int[200_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reverse[i] = sorted.length - i;
+        }
+        assertSelectsLikeSort(sorted, 0, 12_345, 199_999);
+        assertSelectsLikeSort(reverse, 0, 12_345, 199_999);
+    }
+
+    @Test
+    void testInputIsNotModified() {
+        int[] array = randomArray(200_000, 1000, 3);
+        int[] original = array.clone();
+        parallelSelect.select(array, 100_000);
+        assertArrayEquals(original, array);
+    }
+
+    @Test
+    void testMatchesDeterministicSelect() {
+        int[] array = randomArray(250_000, 50_000, 4);
+        DeterministicSelect sequential = new DeterministicSelect(new MetricsCollector());
+        for (int k : new int[]{0, 1_000, 125_000, 249_750}) {
+            assertEquals(sequential.introSelect(array.clone(), k), parallelSelect.select(array, k));
+        }
+    }
+
+    @Test
+    void testMetricsAreMergedFromTasks() {
+        int[] array = randomArray(300_000, Integer.MAX_VALUE, 5);
+        parallelSelect.select(array, 150_000);
+
+        // The first counting round alone compares every element at least once
+        assertTrue(metrics.getComparisons() >= array.length);
+        assertTrue(metrics.getAllocations() > 0);
+    }
+
+    @Test
+    void testInvalidInputs() {
+        assertThrows(IllegalArgumentException.class, () -> parallelSelect.select(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> parallelSelect.select(new int[0], 0));
+        assertThrows(IllegalArgumentException.class, () -> parallelSelect.select(new int[]{1, 2}, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSelect(metrics, 1, pool, 0));
+    }
+}
@@ -0,0 +1,246 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuantileSketchTest {
+    private static final double[] FRACTIONS = {0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999};
+
+    private MetricsCollector metrics;
+    private DeterministicSelect select;
+    private QuantileSketch sketch;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        select = new DeterministicSelect(metrics);
+        sketch = new QuantileSketch(200, 42);
+    }
+
+    @Test
+    void testSmallStreamIsExact() {
+        int[] values = {7, -3, 12, 0, 5, 5, 9};
+        for (int value : values) {
+            sketch.update(value);
+        }
+
+        for (int k = 0; k < values.length; k++) {
+            double fraction = (k + 1) / (double) values.length;
+            assertEquals(select.select(values.clone(), k), sketch.quantile(fraction));
+        }
+        assertEquals(-3, sketch.quantile(0));
+        assertEquals(12, sketch.quantile(1));
+    }
+
+    @Test
+    void testQuantilesWithinErrorBound() {
+        int[] values = randomValues(200_000, 1);
+        for (int value : values) {
+            sketch.update(value);
+        }
+
+        assertQuantilesWithinBound(sketch, values);
+    }
+
+    @Test
+    void testErrorBoundHoldsAcrossSeeds() {
+        // The bound is per query at 99% confidence, so across many sketches at most about 1% of queries may miss
+        int queries = 0;
+        int misses = 0;
+        double worst = 0;
+        for (int k : new int[]{QuantileSketch.MIN_K, 32, 200}) {
+            for (long seed = 0; seed < 60; seed++) {
+                int[] values = randomValues(20_000, seed);
+                QuantileSketch seeded = new QuantileSketch(k, seed);
+                for (int value : values) {
+                    seeded.update(value);
+                }
+
+                double bound = seeded.getNormalizedRankError();
+                assertTrue(bound > 0 && bound < 1, "k=" + k + " bound=" + bound);
+                for (double fraction : FRACTIONS) {
+                    double ratio = rankError(seeded, values, fraction) / bound;
+                    worst = Math.max(worst, ratio);
+                    queries++;
+                    if (ratio > 1) {
+                        misses++;
+                    }
+                }
+            }
+        }
+
+        assertTrue(misses <= queries / 100, misses + " of " + queries + " queries missed; worst ratio " + worst);
+    }
+
+    @Test
+    void testSortedAndDuplicateStreams() {
+        int[] sorted = new int[100_000];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i - sorted.length / 2;
+        }
+        QuantileSketch sortedSketch = new QuantileSketch(200, 7);
+        for (int value : sorted) {
+            sortedSketch.update(value);
+        }
+        assertQuantilesWithinBound(sortedSketch, sorted);
+
+        Random random = new Random(3);
+        int[] fewUnique = new int[100_000];
+        for (int i = 0; i < fewUnique.length; i++) {
+            fewUnique[i] = random.nextInt(5);
+        }
+        QuantileSketch duplicateSketch = new QuantileSketch(200, 7);
+        for (int value : fewUnique) {
+            duplicateSketch.update(value);
+        }
+        assertQuantilesWithinBound(duplicateSketch, fewUnique);
+    }
+
+    @Test
+    void testMemoryStaysBounded() {
+        Random random = new Random(5);
+        for (int i = 0; i < 1_000_000; i++) {
+            sketch.update(random.nextInt());
+        }
+
+        assertEquals(1_000_000, sketch.getCount());
+        assertTrue(sketch.getRetainedItems() < 3 * sketch.getK() + 64,
+            "Retained " + sketch.getRetainedItems() + " items");
+    }
+
+    @Test
+    void testMergeMatchesUnion() {
+        int[] values = randomValues(150_000, 11);
+        QuantileSketch[] parts = new QuantileSketch[4];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = new QuantileSketch(200, i);
+        }
+        for (int i = 0; i < values.length; i++) {
+            parts[i % parts.length].update(values[i]);
+        }
+
+        QuantileSketch merged = new QuantileSketch(200, 99);
+        for (QuantileSketch part : parts) {
+            merged.merge(part);
+        }
+
+        assertEquals(values.length, merged.getCount());
+        assertQuantilesWithinBound(merged, values);
+    }
+
+    @Test
+    void testPercentilesMatchDeterministicSelectOnSmallInput() {
+        int[] values = randomValues(150, 13);
+        for (int value : values) {
+            sketch.update(value);
+        }
+
+        assertArrayEquals(select.percentiles(values.clone(), 1, 50, 99.9),
+            sketch.percentiles(1, 50, 99.9));
+    }
+
+    @Test
+    void testRank() {
+        for (int i = 1; i <= 100; i++) {
+            sketch.update(i);
+        }
+
+        assertEquals(0.5, sketch.rank(50), 1e-9);
+        assertEquals(0.0, sketch.rank(0), 1e-9);
+        assertEquals(1.0, sketch.rank(100), 1e-9);
+    }
+
+    @Test
+    void testShardedUpdatesFromManyThreads() throws Exception {
+        int threads = 4;
+        int perThread = 50_000;
+        int[] values = randomValues(threads * perThread, 17);
+        ShardedQuantileSketch sharded = new ShardedQuantileSketch(200, 1024);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int from = t * perThread;
+                futures.add(executor.submit(() -> {
+                    for (int i = from; i < from + perThread; i++) {
+                        sharded.update(values[i]);
+                    }
+                    sharded.flush();
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        QuantileSketch snapshot = sharded.snapshot();
+        assertEquals(values.length, snapshot.getCount());
+        assertTrue(sharded.getShardCount() <= threads);
+        assertQuantilesWithinBound(snapshot, values);
+    }
+
+    @Test
+    void testInvalidInputs() {
+        assertThrows(IllegalArgumentException.class, () -> new QuantileSketch(1));
+        assertThrows(IllegalArgumentException.class, () -> new ShardedQuantileSketch(200, 0));
+        assertThrows(IllegalStateException.class, () -> sketch.quantile(0.5));
+
+        sketch.update(1);
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.percentiles(-1));
+    }
+
+    private void assertQuantilesWithinBound(QuantileSketch sketch, int[] values) {
+        double bound = sketch.getNormalizedRankError();
+        for (double fraction : FRACTIONS) {
+            double error = rankError(sketch, values, fraction);
+            assertTrue(error <= bound, String.format("q=%.3f rank error=%.5f bound=%.5f", fraction, error, bound));
+        }
+    }
+
+    // Normalized distance between the exact rank for fraction and the ranks the sketch's answer occupies
+    private double rankError(QuantileSketch sketch, int[] values, double fraction) {
+        int n = values.length;
+        int rank = (int) Math.ceil(fraction * n - 1e-9) - 1;
+        int exact = select.selectInPlace(values.clone(), rank);
+        int estimate = sketch.quantile(fraction);
+
+        int below = 0;
+        int atOrBelow = 0;
+        for (int value : values) {
+            if (value < estimate) {
+                below++;
+            }
+            if (value <= estimate) {
+                atOrBelow++;
+            }
+        }
+
+        // The estimate holds ranks [below, atOrBelow - 1]; it is the exact answer exactly when rank falls inside
+        int error = rank < below ? below - rank : Math.max(0, rank - (atOrBelow - 1));
+        assertEquals(estimate == exact, error == 0, "q=" + fraction + " estimate=" + estimate + " exact=" + exact);
+        return (double) error / n;
+    }
+
+    private static int[] randomValues(int size, long seed) {
+        Random random = new Random(seed);
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt();
+        }
+        return values;
+    }
+}
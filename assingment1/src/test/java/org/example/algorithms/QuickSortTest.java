@@ -1,6 +1,7 @@
 package org.example.algorithms;
 
 import org.example.metrics.MetricsCollector;
+import org.example.utils.ArrayUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -125,4 +126,144 @@ class QuickSortTest {
         assertTrue(metrics1.getMaxDepth() <= 2 * Math.log(worstCase.length) / Math.log(2) + 20);
         assertTrue(metrics2.getMaxDepth() <= 2 * Math.log(worstCase.length) / Math.log(2) + 20);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testSampledMetricsCollector() {
+        Random random = new Random(42);
+        int[] array = new int[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(1000);
+        }
+
+        int period = 16;
+        MetricsCollector sampled = MetricsCollector.sampled(period);
+        new QuickSort(sampled, 42).sort(array.clone());
+        new QuickSort(metrics, 42).sort(array);
+
+        assertTrue(ArrayUtils.isSorted(array));
+        assertTrue(Math.abs(metrics.getComparisons() - sampled.getComparisons()) < period);
+        assertTrue(Math.abs(metrics.getSwaps() - sampled.getSwaps()) < period);
+        assertEquals(metrics.getMaxDepth(), sampled.getMaxDepth());
+    }
+
+    @Test
+    void testPartitionStrategiesRandom() {
+        Random random = new Random(42);
+        int[] array = new int[2000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(1000);
+        }
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        for (QuickSort.PartitionStrategy strategy : QuickSort.PartitionStrategy.values()) {
+            int[] copy = array.clone();
+            new QuickSort(new MetricsCollector(), 42, strategy).sort(copy);
+            assertArrayEquals(expected, copy, "Strategy " + strategy + " should sort correctly");
+        }
+    }
+
+    @Test
+    void testPartitionStrategiesSmallInputs() {
+        int[][] inputs = {{2, 1}, {1, 2}, {3, 3}, {5, 4, 3, 2, 1}, {3, 1, 4, 1, 5, 9, 2, 6, 5, 3, 5}};
+
+        for (QuickSort.PartitionStrategy strategy : QuickSort.PartitionStrategy.values()) {
+            for (int[] input : inputs) {
+                int[] copy = input.clone();
+                int[] expected = input.clone();
+                Arrays.sort(expected);
+
+                new QuickSort(new MetricsCollector(), 7, strategy).sort(copy);
+                assertArrayEquals(expected, copy, "Strategy " + strategy);
+            }
+        }
+    }
+
+    @Test
+    void testThreeWayAndDualPivotOnFewUniqueKeys() {
+        Random random = new Random(42);
+        int[] array = new int[5000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(4);
+        }
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        MetricsCollector lomutoMetrics = new MetricsCollector();
+        int[] lomuto = array.clone();
+        new QuickSort(lomutoMetrics, 42).sort(lomuto);
+
+        MetricsCollector threeWayMetrics = new MetricsCollector();
+        int[] threeWay = array.clone();
+        new QuickSort(threeWayMetrics, 42, QuickSort.PartitionStrategy.THREE_WAY).sort(threeWay);
+
+        MetricsCollector dualPivotMetrics = new MetricsCollector();
+        int[] dualPivot = array.clone();
+        new QuickSort(dualPivotMetrics, 42, QuickSort.PartitionStrategy.DUAL_PIVOT).sort(dualPivot);
+
+        assertArrayEquals(expected, lomuto);
+        assertArrayEquals(expected, threeWay);
+        assertArrayEquals(expected, dualPivot);
+        assertTrue(threeWayMetrics.getComparisons() < lomutoMetrics.getComparisons());
+        assertTrue(dualPivotMetrics.getComparisons() < lomutoMetrics.getComparisons());
+    }
+
+    @Test
+    void testThreeWayAllEqualIsLinear() {
+        int[] array = new int[10000];
+        Arrays.fill(array, 5);
+
+        new QuickSort(metrics, 42, QuickSort.PartitionStrategy.THREE_WAY).sort(array);
+
+        assertTrue(metrics.getComparisons() <= 2L * array.length);
+        assertEquals(1, metrics.getMaxDepth());
+    }
+
+    @Test
+    void testIntroSortRandom() {
+        Random random = new Random(42);
+        int[] array = new int[5000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt();
+        }
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        quickSort.introSort(array);
+
+        assertArrayEquals(expected, array);
+        assertEquals(0, metrics.getFallbacks());
+    }
+
+    @Test
+    void testIntroSortHeapSortFallback() {
+        int[] array = new int[4096];
+        Arrays.fill(array, 3);
+        array[100] = 1;
+        array[4000] = 9;
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        quickSort.introSort(array);
+
+        int depthBudget = 2 * (int) (Math.log(array.length) / Math.log(2));
+        assertArrayEquals(expected, array);
+        assertTrue(metrics.getFallbacks() > 0, "Duplicate-heavy Lomuto splits should exhaust the depth budget");
+        assertTrue(metrics.getMaxDepth() <= depthBudget);
+    }
+
+    @Test
+    void testIntroSortSmallInputs() {
+        int[] array = {5, 4, 3, 2, 1};
+        quickSort.introSort(array);
+        assertArrayEquals(new int[]{1, 2, 3, 4, 5}, array);
+
+        int[] empty = {};
+        quickSort.introSort(empty);
+        assertEquals(0, empty.length);
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.algorithms;
+
+import org.example.metrics.MetricsCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RadixSortTest {
+    private MetricsCollector metrics;
+    private RadixSort radixSort;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new MetricsCollector();
+        radixSort = new RadixSort(metrics);
+    }
+
+    @Test
+    void testEmptyAndSingleElement() {
+        int[] empty = {};
+        radixSort.sort(empty);
+        assertEquals(0, empty.length);
+
+        int[] single = {-7};
+        radixSort.sort(single);
+        assertArrayEquals(new int[]{-7}, single);
+    }
+
+    @Test
+    void testNegativeNumbersAndExtremes() {
+        int[] array = {3, -1, Integer.MAX_VALUE, 0, Integer.MIN_VALUE, -1000000, 42, -1, 1 << 22, -(1 << 22)};
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        radixSort.sort(array);
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testRandomSmallArray() {
+        Random random = new Random(42);
+        int[] array = new int[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt();
+        }
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        radixSort.sort(array);
+        assertArrayEquals(expected, array);
+        assertEquals(0, metrics.getComparisons());
+    }
+
+    @Test
+    void testParallelLargeArray() {
+        Random random = new Random(42);
+        int[] array = new int[300000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt();
+        }
+
+        int[] expected = array.clone();
+        Arrays.sort(expected);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new RadixSort(metrics, pool).sort(array);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void testNarrowKeyRangeSkipsPasses() {
+        Random random = new Random(42);
+        int[] narrow = new int[200000];
+        int[] full = new int[narrow.length];
+        for (int i = 0; i < narrow.length; i++) {
+            narrow[i] = random.nextInt(1000);
+            full[i] = random.nextInt();
+        }
+
+        int[] expected = narrow.clone();
+        Arrays.sort(expected);
+        radixSort.sort(narrow);
+        assertArrayEquals(expected, narrow);
+        // Keys below 2^11 share the upper two digits, so only the lowest digit is scattered
+        assertEquals(narrow.length, metrics.getSwaps());
+
+        metrics.reset();
+        expected = full.clone();
+        Arrays.sort(expected);
+        radixSort.sort(full);
+        assertArrayEquals(expected, full);
+        assertEquals(3L * full.length, metrics.getSwaps());
+    }
+
+    @Test
+    void testPrefixWithReusedBuffer() {
+        Random random = new Random(7);
+        int[] buffer = new int[100_000];
+
+        for (int length : new int[]{100_000, 70_001, 3, 1, 0}) {
+            int[] array = new int[100_000];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt();
+            }
+            int[] expected = array.clone();
+            Arrays.sort(expected, 0, length);
+
+            radixSort.sort(array, length, buffer);
+            assertArrayEquals(expected, array, "length=" + length);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> radixSort.sort(new int[10], 11, new int[20]));
+        assertThrows(IllegalArgumentException.class, () -> radixSort.sort(new int[10], 10, new int[5]));
+        assertThrows(IllegalArgumentException.class, () -> radixSort.sort(new int[10], -1, new int[10]));
+        assertThrows(IllegalArgumentException.class, () -> radixSort.sort(new int[10], 5, null));
+    }
+}
@@ -0,0 +1,177 @@
+package org.example.metrics;
+
+import org.example.algorithms.ParallelMergeSort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentMetricsCollectorTest {
+    private static final int THREADS = 4;
+
+    private MetricsCollector metrics;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        metrics = MetricsCollector.concurrent();
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private void recurse(int depth) {
+        metrics.enterRecursion();
+        try {
+            if (depth > 1) {
+                recurse(depth - 1);
+            }
+        } finally {
+            metrics.exitRecursion();
+        }
+    }
+
+    @Test
+    void testConcurrentIncrementsAreNotLost() throws Exception {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    metrics.incrementComparisons();
+                    metrics.incrementSwaps();
+                    metrics.incrementMatches();
+                }
+                metrics.incrementComparisons(5);
+                metrics.incrementSwaps(3);
+                metrics.incrementAllocations();
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        assertEquals(THREADS * 100_005L, metrics.getComparisons());
+        assertEquals(THREADS * 100_003L, metrics.getSwaps());
+        assertEquals(THREADS * 100_000L, metrics.getMatches());
+        assertEquals(THREADS, metrics.getAllocations());
+    }
+
+    @Test
+    void testDepthIsTrackedPerThread() throws Exception {
+        // Each thread recurses to a different depth at the same time; a shared depth counter would add them up
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int depth = 10 * (thread + 1);
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                ready.await();
+                for (int i = 0; i < 1000; i++) {
+                    recurse(depth);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        assertEquals(10 * THREADS, metrics.getMaxDepth());
+
+        // Depth merged from a plain collector stacks on the calling thread's current depth
+        MetricsCollector child = new MetricsCollector();
+        child.enterRecursion();
+        child.enterRecursion();
+        MetricsCollector parent = MetricsCollector.concurrent();
+        parent.enterRecursion();
+        parent.merge(child);
+        parent.exitRecursion();
+        assertEquals(3, parent.getMaxDepth());
+    }
+
+    @Test
+    void testSnapshotWhileWorkersRun() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        metrics.startTiming();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executor.submit(() -> {
+                while (running.get()) {
+                    metrics.incrementComparisons();
+                }
+            }));
+        }
+
+        long previous = 0;
+        for (int i = 0; i < 50; i++) {
+            MetricsSnapshot snapshot = metrics.snapshot();
+            assertTrue(snapshot.getComparisons() >= previous);
+            assertTrue(snapshot.getElapsedTimeNanos() >= 0);
+            previous = snapshot.getComparisons();
+            Thread.sleep(1);
+        }
+
+        running.set(false);
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        metrics.stopTiming();
+
+        MetricsSnapshot last = metrics.snapshot();
+        assertTrue(last.getComparisons() >= previous);
+        assertEquals(last.getComparisons(), metrics.snapshot().getComparisons());
+    }
+
+    @Test
+    void testParallelEngineCountsMatchPlainCollector() {
+        Random random = new Random(1);
+        int[] source = new int[200_000];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = random.nextInt();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(THREADS);
+        try {
+            MetricsCollector plain = new MetricsCollector();
+            new ParallelMergeSort(plain, pool).sort(source.clone());
+            new ParallelMergeSort(metrics, pool).sort(source.clone());
+
+            // Merge sort comparisons depend only on the data, so scheduling must not change the total
+            assertEquals(plain.getComparisons(), metrics.getComparisons());
+            assertTrue(metrics.getMaxDepth() > 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testBenchmarkResultFromSnapshot() {
+        metrics.incrementComparisons(42);
+        metrics.incrementSwaps();
+        recurse(3);
+
+        BenchmarkResult result = new BenchmarkResult("Test", 10, metrics.snapshot());
+        assertEquals(42, result.getComparisons());
+        assertEquals(1, result.getSwaps());
+        assertEquals(3, result.getMaxDepth());
+
+        metrics.reset();
+        assertEquals(0, metrics.snapshot().getComparisons());
+        assertEquals(0, metrics.getMaxDepth());
+        assertSame(metrics, metrics.fork());
+    }
+}
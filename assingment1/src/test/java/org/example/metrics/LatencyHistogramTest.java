@@ -0,0 +1,126 @@
+package org.example.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(1, histogram.getMinNanos());
+        assertEquals(100, histogram.getMaxNanos());
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(90, histogram.getValueAtPercentile(90));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+        assertEquals(50.5, histogram.getMeanNanos(), 1e-9);
+        assertEquals(Math.sqrt((100 * 100 - 1) / 12.0), histogram.getStdDevNanos(), 1e-9);
+    }
+
+    @Test
+    void testPercentilesWithinRelativeErrorAcrossMagnitudes() {
+        // Log-uniform latencies from a microsecond to ten seconds
+        Random random = new Random(3);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.pow(10, 3 + random.nextDouble() * 7);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double percentile : new double[]{1, 10, 50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long estimate = histogram.getValueAtPercentile(percentile);
+            assertEquals(exact, estimate, exact * 0.002, "p" + percentile);
+        }
+        assertEquals(values[0], histogram.getMinNanos());
+        assertEquals(values[values.length - 1], histogram.getMaxNanos());
+        double mean = Arrays.stream(values).average().orElseThrow();
+        assertEquals(mean, histogram.getMeanNanos(), mean * 1e-9);
+    }
+
+    @Test
+    void testBucketBoundaries() {
+        for (long value : new long[]{0, 1023, 1024, 1025, 2047, 2048, 4095, 4096, 1L << 40, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.lowestValueOf(bucket) <= value, "value=" + value);
+            if (value < Long.MAX_VALUE) {
+                assertTrue(bucket == LatencyHistogram.bucketOf(value + 1)
+                    || LatencyHistogram.lowestValueOf(bucket + 1) == value + 1, "value=" + value);
+            }
+        }
+
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(0);
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    void testInvalidInputs() {
+        assertThrows(IllegalStateException.class, () -> histogram.getValueAtPercentile(50));
+        assertThrows(IllegalStateException.class, () -> histogram.getMeanNanos());
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+
+        histogram.record(5);
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(Double.NaN));
+    }
+
+    @Test
+    void testBenchmarkResultAndCsvColumns(@TempDir Path directory) throws IOException {
+        for (long millis = 1; millis <= 10; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+        MetricsCollector metrics = new MetricsCollector();
+        metrics.incrementComparisons(7);
+
+        BenchmarkResult result = new BenchmarkResult("Test", 10, metrics.snapshot(), histogram);
+        assertEquals(1.0, result.getMinMs(), 0.01);
+        assertEquals(5.0, result.getP50Ms(), 0.01);
+        assertEquals(9.0, result.getP90Ms(), 0.02);
+        assertEquals(10.0, result.getP99Ms(), 0.02);
+        assertEquals(10.0, result.getMaxMs(), 1e-9);
+        assertEquals(5.5, result.getMeanMs(), 1e-9);
+        assertEquals(result.getP50Ms(), result.getTimeMs());
+
+        Path file = directory.resolve("results.csv");
+        CSVWriter.writeMetrics(file.toString(), List.of(result));
+        CSVWriter.appendMetric(file.toString(), new BenchmarkResult("Single", 3, metrics.snapshot()));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        assertEquals("algorithm,n,timeMs,comparisons,swaps,allocations,maxDepth,"
+            + "minMs,p50Ms,p90Ms,p99Ms,maxMs,meanMs,stddevMs", lines.get(0));
+        String[] columns = lines.get(1).split(",");
+        assertEquals(14, columns.length);
+        assertEquals("7", columns[3]);
+        assertEquals("5.500", columns[12]);
+        assertEquals("2.872", columns[13]);
+        // A single timing has no spread
+        assertEquals("0.000", lines.get(2).split(",")[13]);
+    }
+}